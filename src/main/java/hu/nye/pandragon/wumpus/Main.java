@@ -1,10 +1,137 @@
 package hu.nye.pandragon.wumpus;
 
+import hu.nye.pandragon.wumpus.service.game.Level;
+import hu.nye.pandragon.wumpus.service.simulation.MonteCarloSimulator;
 import hu.nye.pandragon.wumpus.ui.GameMainScreen;
+import hu.nye.pandragon.wumpus.ui.ParallelLevelRenderer;
+import hu.nye.pandragon.wumpus.ui.ScriptScreen;
+import hu.nye.pandragon.wumpus.xml.XmlLevelConverter;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 public class Main {
 
 	public static void main(String[] args) {
+		if (args.length > 0 && args[0].equals("--script")) {
+			System.exit(runScript(args));
+		}
+		if (args.length > 0 && args[0].equals("--simulate")) {
+			System.exit(runSimulation(args));
+		}
+		if (args.length > 0 && args[0].equals("--export")) {
+			System.exit(runExport(args));
+		}
 		new GameMainScreen().start();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Parancsfájl futtatása a játék felülete nélkül
+	 * Használat: --script fájl (--size méret | --level pálya.xml) [--render]
+	 * A --size megadásakor a parancsfájl a pályaszerkesztő parancsaival kezdődik,
+	 * a --level megadásakor a pálya egy XML fájlból töltődik be, és a játék parancsai jönnek
+	 * @param args a parancssori argumentumok
+	 * @return a program kilépési kódja, 0, ha a parancsfájl lefutott
+	 */
+	static int runScript (String[] args) {
+		String script = null, levelFile = null;
+		var size = -1;
+		var render = false;
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+					case "--script" -> script = args[++i];
+					case "--level" -> levelFile = args[++i];
+					case "--size" -> size = Integer.parseInt(args[++i]);
+					case "--render" -> render = true;
+					default -> throw new IllegalArgumentException("Ismeretlen kapcsoló: " + args[i]);
+				}
+			}
+			if (script == null || (levelFile == null) == (size == -1)) {
+				throw new IllegalArgumentException("Használat: --script fájl (--size méret | --level pálya.xml) [--render]");
+			}
+			var lines = Files.readAllLines(Path.of(script), StandardCharsets.UTF_8);
+			var screen = levelFile != null
+					? new ScriptScreen(XmlLevelConverter.toLevelVO(Files.readString(Path.of(levelFile), StandardCharsets.UTF_8)), lines)
+					: new ScriptScreen(size, lines);
+			screen.setRendering(render);
+			screen.start();
+			System.out.println(screen.getResult().getReport());
+			return 0;
+		}
+		catch (Exception e) {
+			System.err.println(e.getMessage());
+			return 1;
+		}
+	}
+
+	/**
+	 * Sok játék lejátszása egy pályán véletlenszerű lépésekkel, a pálya nehézségének becsléséhez
+	 * Használat: --simulate pálya.xml [--games játékok] [--seed kezdőérték] [--max-steps lépések]
+	 * @param args a parancssori argumentumok
+	 * @return a program kilépési kódja, 0, ha a szimuláció lefutott
+	 */
+	static int runSimulation (String[] args) {
+		String levelFile = null;
+		long games = 100_000, seed = System.nanoTime();
+		var maxSteps = 1000;
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+					case "--simulate" -> levelFile = args[++i];
+					case "--games" -> games = Long.parseLong(args[++i]);
+					case "--seed" -> seed = Long.parseLong(args[++i]);
+					case "--max-steps" -> maxSteps = Integer.parseInt(args[++i]);
+					default -> throw new IllegalArgumentException("Ismeretlen kapcsoló: " + args[i]);
+				}
+			}
+			var levelVO = XmlLevelConverter.toLevelVO(Files.readString(Path.of(levelFile), StandardCharsets.UTF_8));
+			var start = System.nanoTime();
+			var result = new MonteCarloSimulator().simulate(levelVO, games, seed, maxSteps);
+			System.out.println(result.getReport());
+			System.out.printf("Kezdőérték: %d, idő: %d ms%n", seed, (System.nanoTime() - start) / 1_000_000);
+			return 0;
+		}
+		catch (Exception e) {
+			System.err.println(e.getMessage());
+			return 1;
+		}
+	}
+
+	/**
+	 * Egy pálya teljes rajzának kiírása, pl. nagy pályák pillanatképeihez
+	 * A rajz több szálon készül, de ugyanaz, mint a játékban a teljes pálya rajza
+	 * Használat: --export pálya.xml [--output fájl] [--editor]
+	 * Az --output nélkül a rajz a konzolra kerül, az --editor kapcsolóval a pályaszerkesztő rajza készül
+	 * @param args a parancssori argumentumok
+	 * @return a program kilépési kódja, 0, ha a rajz elkészült
+	 */
+	static int runExport (String[] args) {
+		String levelFile = null, output = null;
+		var editor = false;
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+					case "--export" -> levelFile = args[++i];
+					case "--output" -> output = args[++i];
+					case "--editor" -> editor = true;
+					default -> throw new IllegalArgumentException("Ismeretlen kapcsoló: " + args[i]);
+				}
+			}
+			var level = new Level(XmlLevelConverter.toLevelVO(Files.readString(Path.of(levelFile), StandardCharsets.UTF_8)));
+			var drawing = new String(new ParallelLevelRenderer().render(level, editor));
+			if (output != null) {
+				Files.writeString(Path.of(output), drawing, StandardCharsets.UTF_8);
+			}
+			else {
+				System.out.print(drawing);
+			}
+			return 0;
+		}
+		catch (Exception e) {
+			System.err.println(e.getMessage());
+			return 1;
+		}
+	}
+}
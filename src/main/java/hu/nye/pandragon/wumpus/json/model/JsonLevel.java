@@ -27,8 +27,8 @@ public class JsonLevel {
 
 	public JsonLevel(LevelVO levelVO) {
 		size = levelVO.getSize();
-		startX = levelVO.getStartpoint().x;
-		startY = levelVO.getStartpoint().y;
+		startX = levelVO.getStartpoint().x();
+		startY = levelVO.getStartpoint().y();
 		steps = levelVO.getNumberOfMoves();
 		var heroOpt = levelVO.getLivingEntities().values().stream()
 				.filter(e -> e instanceof Hero)
@@ -41,12 +41,12 @@ public class JsonLevel {
 		entities.addAll(levelVO.getStaticEntities().entrySet().stream()
 				.map(entry -> new JsonEntity(
 						entry.getValue().getCompatibilitySymbol(),
-						entry.getKey().x, entry.getKey().y)
+						entry.getKey().x(), entry.getKey().y())
 				).collect(Collectors.toList()));
 		entities.addAll(levelVO.getLivingEntities().entrySet().stream()
 				.map(entry -> new JsonEntity(
 						entry.getValue().getCompatibilitySymbol(),
-						entry.getKey().x, entry.getKey().y)
+						entry.getKey().x(), entry.getKey().y())
 				).collect(Collectors.toList()));
 	}
 }
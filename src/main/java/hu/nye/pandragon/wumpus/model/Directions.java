@@ -4,11 +4,11 @@ import lombok.Getter;
 
 @Getter
 public enum Directions {
-	North('N', '▲'),
-	East('E', '▶'),
-	South('S', '▼'),
-	West('W', '◀'),
-	Unknown('-', '-');
+	North('N', '▲', 0, -1),
+	East('E', '▶', 1, 0),
+	South('S', '▼', 0, 1),
+	West('W', '◀', -1, 0),
+	Unknown('-', '-', 0, 0);
 
 	public Directions getClockwiseNext () {
 		return switch (this) {
@@ -32,9 +32,25 @@ public enum Directions {
 
 	private final char compatibilitySymbol;
 	private final char displaySymbol;
-	Directions(char compatibilitySymbol, char displaySymbol) {
+	/**
+	 * Ennyivel változik az oszlop, ha ebbe az irányba lépünk
+	 */
+	private final int dx;
+	/**
+	 * Ennyivel változik a sor, ha ebbe az irányba lépünk
+	 */
+	private final int dy;
+	/**
+	 * Az irány bitje az irányok maszkjában (pl. Level.getPossibleMovesMask())
+	 * A sorrend: North = 1, East = 2, South = 4, West = 8, Unknown = 0
+	 */
+	private final int mask;
+	Directions(char compatibilitySymbol, char displaySymbol, int dx, int dy) {
 		this.compatibilitySymbol = compatibilitySymbol;
 		this.displaySymbol = displaySymbol;
+		this.dx = dx;
+		this.dy = dy;
+		this.mask = dx == 0 && dy == 0 ? 0 : 1 << ordinal();
 	}
 
 	/**
@@ -17,7 +17,17 @@ public enum Entities {
 		return entity.getName();
 	}
 
+	/**
+	 * Egy új példány ebből a pályaelemből
+	 * Az állapot nélküli statikus pályaelemekből (fal, arany, verem) nem jön létre új példány,
+	 * hanem a közös példányukat adja vissza, a falnál az egyszerű formájút (Wall.of())
+	 * @return a pályaelem példánya
+	 */
 	public Entity createNewInstance () {
+		var shared = entity.getSharedInstance();
+		if (shared != null) {
+			return shared;
+		}
 		return switch (this) {
 			case Wall -> new Wall();
 			case Gold -> new Gold();
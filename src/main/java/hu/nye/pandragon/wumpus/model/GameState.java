@@ -0,0 +1,43 @@
+package hu.nye.pandragon.wumpus.model;
+
+import lombok.Getter;
+
+/**
+ * Egy játékmenet állapota
+ */
+@Getter
+public enum GameState {
+	/**
+	 * A pálya még szerkesztés alatt van, a játék nem kezdődött el
+	 */
+	Editing ("szerkesztés"),
+	/**
+	 * A játék folyamatban van
+	 */
+	Running ("folyamatban"),
+	/**
+	 * A hős visszahozta az aranyat a kiindulási helyre
+	 */
+	Won ("győzelem"),
+	/**
+	 * A hős meghalt
+	 */
+	Died ("a hős meghalt"),
+	/**
+	 * A játékos feladta a játékot
+	 */
+	GaveUp ("feladva");
+
+	private final String name;
+
+	GameState(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Véget ért-e a játék ebben az állapotban
+	 */
+	public boolean isFinished () {
+		return this == Won || this == Died || this == GaveUp;
+	}
+}
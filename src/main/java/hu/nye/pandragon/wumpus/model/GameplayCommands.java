@@ -17,6 +17,10 @@ public enum GameplayCommands {
 
 	private final String usage;
 	private final String regex;
+	/**
+	 * Az előre lefordított regex, hogy ne kelljen minden ellenőrzéskor újra lefordítani
+	 */
+	private final Pattern pattern;
 	private final String base;
 
 	/**
@@ -32,7 +36,7 @@ public enum GameplayCommands {
 		if (!input.startsWith(base)) {
 			return CommandMatcherResult.ofNotMatchingCommand();
 		}
-		if (!Pattern.matches(regex, input)) {
+		if (!pattern.matcher(input).matches()) {
 			return CommandMatcherResult.ofInproperSyntax("A parancs használata: " + usage);
 		}
 		return CommandMatcherResult.ofCorrectMatchingCommand();
@@ -48,6 +52,15 @@ public enum GameplayCommands {
 		else {
 			base = usage.substring(0, usage.indexOf(' '));
 		}
+		pattern = Pattern.compile(this.regex);
+	}
+
+	/**
+	 * A parancs első szava, ez alapján választja ki az InputHandler a lehetséges parancsokat
+	 * @return az első szó
+	 */
+	public String getBase () {
+		return base;
 	}
 
 	/**
@@ -8,18 +8,22 @@ import java.util.regex.Pattern;
  * Ez az enum a pályaszerkesztőben elérhető parancsokat tartalmazza
  */
 public enum LevelEditorCommands {
-	Place ("legyen {ENTITIES} osztlop_betűje sor_száma", "^legyen ({ENTITIES}) [a-z] \\d+$"),
-	Remove ("törlés osztlop_betűje sor_száma", "^törlés [a-z] \\d+$"),
+	Place ("legyen {ENTITIES} osztlop_betűje sor_száma", "^legyen ({ENTITIES}) ([a-z]+|\\d+) \\d+$"),
+	Remove ("törlés osztlop_betűje sor_száma", "^törlés ([a-z]+|\\d+) \\d+$"),
 	RotateHero ("hős fordul {DIRECTIONS}", "^hős fordul ({DIRECTIONS})$"),
 	Test ("teszt", "^teszt$"),
 	Exit ("kész | kilépés | vissza", "^(kész|kilépés|vissza)$");
 
 	private final String usage;
 	private final String regex;
+	/**
+	 * Az előre lefordított regex, hogy ne kelljen minden ellenőrzéskor újra lefordítani
+	 */
+	private final Pattern pattern;
 	private final String base;
 
 	public boolean checkSyntax (String s) {
-		return Pattern.matches(regex, s);
+		return pattern.matcher(s).matches();
 	}
 
 	/**
@@ -59,6 +63,15 @@ public enum LevelEditorCommands {
 		else {
 			base = usage.substring(0, usage.indexOf(' '));
 		}
+		pattern = Pattern.compile(this.regex);
+	}
+
+	/**
+	 * A parancs első szava, ez alapján választja ki az InputHandler a lehetséges parancsokat
+	 * @return az első szó
+	 */
+	public String getBase () {
+		return base;
 	}
 
 	public static String getMenuText () {
@@ -6,8 +6,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 
-import java.awt.*;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -18,21 +18,24 @@ import java.util.Map;
  *  - a pálya oldalméretét
  *  - a kezdőpontot
  * A kezdőpont pálya beolvasásakor a hős aktuális helye lehetne
+ * Nem módosítható: a statikus pályaelemek egy PersistentGrid-ben vannak,
+ * ezen a pályával és a többi pillanatképpel osztozik, a lényekről pedig saját másolata van
+ * Így egy pillanatkép olcsó, és másolás nélkül átadható más szálaknak is
  */
 @EqualsAndHashCode
 @ToString
 public class LevelVO {
 
 	/**
-	 * Ez a map tartalmazza a pályaelemeket és a pozíciójukat
-	 * pozíció -> pályaelem
+	 * Ez tartalmazza a pályaelemeket a pozíciójuk szerint
+	 * A pályaelemeket nem szabad módosítani, mert több pillanatkép is osztozhat rajtuk
 	 */
-	private final Map<Point, Entity> staticEntities;
+	private final PersistentGrid<Entity> staticEntities;
 	/**
 	 * Ez a map tartalmazza a pályán lévő lényeket és a pozíciójukat
 	 * pozíció -> lény
 	 */
-	private final Map<Point, LivingEntity> livingEntities;
+	private final Map<Position, LivingEntity> livingEntities;
 	/**
 	 * A pálya egy oldalának mérete
 	 */
@@ -41,7 +44,7 @@ public class LevelVO {
 	/**
 	 * A hős kiinduló pozíciója
 	 */
-	private final Point startpoint;
+	private final Position startpoint;
 	/**
 	 * A játék során megtett léséek száma
 	 * Ez akkor számít, amikor a pálya
@@ -51,44 +54,83 @@ public class LevelVO {
 	private final int numberOfMoves;
 
 	public LevelVO(
-			Map<Point, Entity> staticEntities,
-			Map<Point, LivingEntity> livingEntities,
+			Map<Position, Entity> staticEntities,
+			Map<Position, LivingEntity> livingEntities,
 			int size,
-			Point startpoint,
+			Position startpoint,
+			int numberOfMoves) {
+		this(toGrid(staticEntities, size), livingEntities, size, startpoint, numberOfMoves);
+	}
+
+	/**
+	 * A statikus pályaelemeket nem másolja le, a lényeket viszont igen
+	 */
+	public LevelVO(
+			PersistentGrid<Entity> staticEntities,
+			Map<Position, LivingEntity> livingEntities,
+			int size,
+			Position startpoint,
 			int numberOfMoves) {
 		this.staticEntities = staticEntities;
-		this.livingEntities = livingEntities;
+		this.livingEntities = Collections.unmodifiableMap(deepCopyLiving(livingEntities));
 		this.size = size;
 		this.startpoint = startpoint;
 		this.numberOfMoves = numberOfMoves;
 	}
 
-	public Map<Point, Entity> getStaticEntities() {
-		return deepCopy(staticEntities);
+	/**
+	 * A statikus pályaelemek másolata sorfolytonos sorrendben
+	 * Ez a pálya méretével arányos, ahol lehet, a getStaticEntityGrid() jobb választás
+	 */
+	public Map<Position, Entity> getStaticEntities() {
+		var cloned = new LinkedHashMap<Position, Entity>();
+		for (int y = 1; y <= size; y++) {
+			for (int x = 1; x <= size; x++) {
+				var entity = staticEntities.get(x, y);
+				if (entity != null) {
+					cloned.put(new Position(x, y), entity.clone());
+				}
+			}
+		}
+		return cloned;
+	}
+
+	/**
+	 * A statikus pályaelemek másolás nélkül
+	 * @return a pillanatkép statikus pályaelemei
+	 */
+	public PersistentGrid<Entity> getStaticEntityGrid () {
+		return staticEntities;
 	}
 
-	public Map<Point, LivingEntity> getLivingEntities() {
+	public Map<Position, LivingEntity> getLivingEntities() {
 		return deepCopyLiving(livingEntities);
 	}
 
-	public Point getStartpoint () {
-		return new Point(startpoint);
+	public Position getStartpoint () {
+		return startpoint;
 	}
 
-	private static Map<Point, Entity> deepCopy (Map<Point, Entity> map) {
-		var cloned = new HashMap<Point, Entity>();
-		for (Map.Entry<Point, Entity> e : map.entrySet()) {
+	private static PersistentGrid<Entity> toGrid (Map<Position, Entity> map, int size) {
+		var builder = new PersistentGrid<Entity>(size).toBuilder();
+		for (Map.Entry<Position, Entity> e : map.entrySet()) {
 			var point = e.getKey();
-			cloned.put(new Point(point.x, point.y), e.getValue().clone());
+			if (point.x() < 1 || point.y() < 1 || point.x() > size || point.y() > size) {
+				throw new IllegalArgumentException(String.format("A pozíció kívül esik a pályán: %d %d", point.x(), point.y()));
+			}
+			builder.set(point.x(), point.y(), e.getValue().clone());
 		}
-		return cloned;
+		return builder.build();
 	}
 
-	private static Map<Point, LivingEntity> deepCopyLiving (Map<Point, LivingEntity> map) {
-		var cloned = new HashMap<Point, LivingEntity>();
-		for (Map.Entry<Point, LivingEntity> e : map.entrySet()) {
+	/**
+	 * A másolatban a lények sorrendje megegyezik az eredetivel
+	 */
+	private static Map<Position, LivingEntity> deepCopyLiving (Map<Position, LivingEntity> map) {
+		var cloned = new LinkedHashMap<Position, LivingEntity>();
+		for (Map.Entry<Position, LivingEntity> e : map.entrySet()) {
 			var point = e.getKey();
-			cloned.put(new Point(point.x, point.y), (LivingEntity) e.getValue().clone());
+			cloned.put(new Position(point.x(), point.y()), (LivingEntity) e.getValue().clone());
 		}
 		return cloned;
 	}
@@ -0,0 +1,20 @@
+package hu.nye.pandragon.wumpus.model;
+
+import java.util.List;
+
+/**
+ * Egy pálya ellenőrzésének eredménye
+ * @param solvable teljesíthető-e a pálya, azaz az ellenőrzés végigért, és nem derült ki róla hiba
+ * @param limitReached a keresés elérte-e a korlátját, ekkor az eredmény nem döntő: a pálya nincs teljesen ellenőrizve,
+ *                     így nem számít teljesíthetőnek, de nem is derült ki róla, hogy nem teljesíthető
+ * @param problems a talált hibák, vagy nem döntő eredménynél ennek oka, teljesíthető pályánál üres
+ */
+public record LevelValidationResult (boolean solvable, boolean limitReached, List<String> problems) {
+
+	/**
+	 * A hibák egy sorban, vesszővel elválasztva
+	 */
+	public String getMessage () {
+		return String.join(", ", problems);
+	}
+}
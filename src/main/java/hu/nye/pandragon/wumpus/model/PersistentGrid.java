@@ -0,0 +1,203 @@
+package hu.nye.pandragon.wumpus.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Ez az osztály egy négyzetes pálya celláit tárolja, és nem lehet módosítani
+ * A cellák soronként külön tömbökben vannak, ezeket a sorokat több példány is közösen használhatja
+ * Egy módosított példány csak a megváltozott sorokat másolja le, a többin osztozik az eredetivel,
+ * így egy pillanatkép költsége a megváltozott sorok számától függ, nem a pálya méretétől
+ * Mivel semmi nem módosul benne, nyugodtan át lehet adni más szálaknak is
+ * A koordináták 1-től indulnak, ahogy a pályán
+ * @param <T> a cellákban tárolt elemek típusa
+ */
+public final class PersistentGrid<T> {
+
+	private final int size;
+	private final Object[][] rows;
+
+	/**
+	 * Üres pálya, minden sora ugyanazt az üres tömböt használja
+	 * @param size a pálya egy oldalának mérete
+	 */
+	public PersistentGrid (int size) {
+		this.size = size;
+		this.rows = new Object[size][];
+		Arrays.fill(rows, new Object[size]);
+	}
+
+	private PersistentGrid (int size, Object[][] rows) {
+		this.size = size;
+		this.rows = rows;
+	}
+
+	public int getSize () {
+		return size;
+	}
+
+	/**
+	 * Rajta van-e a pályán a megadott pozíció
+	 * @param x oszlop (1-től)
+	 * @param y sor (1-től)
+	 * @return true, ha a pályán belül van
+	 */
+	public boolean contains (int x, int y) {
+		return x >= 1 && y >= 1 && x <= size && y <= size;
+	}
+
+	/**
+	 * Egy cella tartalma
+	 * @param x oszlop (1-től)
+	 * @param y sor (1-től)
+	 * @return a cellában lévő elem, vagy null, ha üres vagy nincs a pályán
+	 */
+	@SuppressWarnings("unchecked")
+	public T get (int x, int y) {
+		return contains(x, y) ? (T) rows[y - 1][x - 1] : null;
+	}
+
+	/**
+	 * Létrehoz egy új példányt, amiben egy cella más
+	 * Csak a cella sorát másolja le, a többi sor közös marad
+	 * @param x oszlop (1-től)
+	 * @param y sor (1-től)
+	 * @param value az új érték, lehet null is
+	 * @return az új példány
+	 */
+	public PersistentGrid<T> with (int x, int y, T value) {
+		if (!contains(x, y)) {
+			throw new IllegalArgumentException(String.format("A pozíció kívül esik a pályán: %d %d", x, y));
+		}
+		var copy = rows.clone();
+		copy[y - 1] = rows[y - 1].clone();
+		copy[y - 1][x - 1] = value;
+		return new PersistentGrid<>(size, copy);
+	}
+
+	/**
+	 * Egy módosítható változat, ami kezdetben minden során osztozik ezzel a példánnyal
+	 * @return a módosítható változat
+	 */
+	public Builder<T> toBuilder () {
+		return new Builder<>(size, rows.clone());
+	}
+
+	@Override
+	public boolean equals (Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof PersistentGrid<?> other) || size != other.size) {
+			return false;
+		}
+		for (int i = 0; i < size; i++) {
+			if (rows[i] != other.rows[i] && !Arrays.equals(rows[i], other.rows[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode () {
+		var hash = size;
+		for (Object[] row : rows) {
+			hash = 31 * hash + Arrays.hashCode(row);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString () {
+		var b = new StringBuilder("PersistentGrid(size=").append(size).append(", cells={");
+		var first = true;
+		for (int y = 1; y <= size; y++) {
+			for (int x = 1; x <= size; x++) {
+				var value = get(x, y);
+				if (value != null) {
+					if (!first) {
+						b.append(", ");
+					}
+					b.append('[').append(x).append(", ").append(y).append("]=").append(value);
+					first = false;
+				}
+			}
+		}
+		return b.append("})").toString();
+	}
+
+	/**
+	 * A PersistentGrid módosítható változata
+	 * Egy sort csak az első írásakor másol le, utána helyben módosítja,
+	 * amíg a build() meg nem osztja újra a sorait egy új PersistentGrid-del
+	 * Ez nem szálbiztos, csak a létrehozott PersistentGrid példányok azok
+	 * @param <T> a cellákban tárolt elemek típusa
+	 */
+	public static final class Builder<T> {
+
+		private final int size;
+		private final Object[][] rows;
+		/**
+		 * A legutóbbi build() óta lemásolt, azaz saját sorok
+		 */
+		private final boolean[] owned;
+		private final int[] ownedRows;
+		private int ownedCount;
+
+		private Builder (int size, Object[][] rows) {
+			this.size = size;
+			this.rows = rows;
+			this.owned = new boolean[size];
+			this.ownedRows = new int[size];
+		}
+
+		public int getSize () {
+			return size;
+		}
+
+		/**
+		 * Egy cella tartalma, a pozíciót nem ellenőrzi
+		 * @param x oszlop (1-től)
+		 * @param y sor (1-től)
+		 * @return a cellában lévő elem, vagy null, ha üres
+		 */
+		@SuppressWarnings("unchecked")
+		public T get (int x, int y) {
+			return (T) rows[y - 1][x - 1];
+		}
+
+		/**
+		 * Egy cella beállítása, a pozíciót nem ellenőrzi
+		 * Ha a sor még közös, akkor előbb lemásolja
+		 * @param x oszlop (1-től)
+		 * @param y sor (1-től)
+		 * @param value az új érték, lehet null is
+		 */
+		public void set (int x, int y, T value) {
+			var row = y - 1;
+			if (rows[row][x - 1] == value) {
+				return;
+			}
+			if (!owned[row]) {
+				rows[row] = rows[row].clone();
+				owned[row] = true;
+				ownedRows[ownedCount++] = row;
+			}
+			rows[row][x - 1] = value;
+		}
+
+		/**
+		 * Pillanatkép a jelenlegi állapotról
+		 * Utána minden sor újra közös lesz, a következő írás előtt le lesz másolva
+		 * @return a nem módosítható pillanatkép
+		 */
+		public PersistentGrid<T> build () {
+			for (int i = 0; i < ownedCount; i++) {
+				owned[ownedRows[i]] = false;
+			}
+			ownedCount = 0;
+			return new PersistentGrid<>(size, rows.clone());
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package hu.nye.pandragon.wumpus.model;
+
+/**
+ * Egy pozíció a pályán
+ * Nem módosítható, így nyugodtan lehet map kulcs, és több helyen is használható ugyanaz a példány
+ * A koordináták 1-től indulnak, a (0, 0) azt jelenti, hogy a pozíció még nincs beállítva
+ * @param x oszlop
+ * @param y sor
+ */
+public record Position(int x, int y) {
+
+	/**
+	 * A még be nem állított pozíció
+	 */
+	public static final Position NONE = new Position(0, 0);
+
+	/**
+	 * A szomszédos pozíció a megadott irányban
+	 * @param direction az irány
+	 * @return az új pozíció
+	 */
+	public Position moved (Directions direction) {
+		return new Position(x + direction.getDx(), y + direction.getDy());
+	}
+}
@@ -0,0 +1,35 @@
+package hu.nye.pandragon.wumpus.model;
+
+import java.util.List;
+
+/**
+ * Egy parancsfájl lefuttatásának eredménye
+ * @param state a játék állapota a futás végén
+ * @param steps a játék során megtett lépések száma, ugyanúgy számolva, mint a játékban: minden parancs egy lépés
+ * @param executedCommands hány parancs futott le, a szerkesztő parancsaival együtt
+ * @param heroPosition a hős helye a futás végén, vagy null, ha nincs hős
+ * @param hasGold a hősnél van-e az arany
+ * @param errors a hibás parancsok üzenetei, a sor számával
+ */
+public record ScriptResult (GameState state, int steps, int executedCommands, Position heroPosition, boolean hasGold,
+                            List<String> errors) {
+
+	/**
+	 * Az eredmény szöveges összefoglalója
+	 */
+	public String getReport () {
+		var b = new StringBuilder();
+		b.append("Állapot: ").append(state.getName()).append('\n');
+		b.append("Megtett lépések: ").append(steps).append('\n');
+		b.append("Lefutott parancsok: ").append(executedCommands).append('\n');
+		if (heroPosition != null) {
+			b.append(String.format("A hős helye: %d %d%s\n", heroPosition.x(), heroPosition.y(),
+					hasGold ? ", nála van az arany" : ""));
+		}
+		b.append("Hibás parancsok: ").append(errors.size());
+		for (String error : errors) {
+			b.append("\n - ").append(error);
+		}
+		return b.toString();
+	}
+}
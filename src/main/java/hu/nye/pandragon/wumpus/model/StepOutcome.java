@@ -0,0 +1,18 @@
+package hu.nye.pandragon.wumpus.model;
+
+/**
+ * Egy parancs végrehajtásának eredménye a játékban
+ * @param state a játék állapota a parancs után
+ * @param steps az eddig megtett lépések száma, ezzel a paranccsal együtt
+ * @param accepted sikeresen lefutott-e a parancs
+ * @param message a hibaüzenet, ha a parancs nem futott le, vagy null
+ */
+public record StepOutcome (GameState state, int steps, boolean accepted, String message) {
+
+	/**
+	 * Véget ért-e a játék ezzel a paranccsal
+	 */
+	public boolean isFinished () {
+		return state.isFinished();
+	}
+}
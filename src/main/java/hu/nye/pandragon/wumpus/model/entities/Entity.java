@@ -35,6 +35,12 @@ public abstract class Entity {
 	 * vagy egyszer jelenjen meg középen a szimbóluma?
 	 */
 	protected final boolean extendsInCell;
+	/**
+	 * Közös példány-e (flyweight)
+	 * Egy közös példányon több cella is osztozik, ezért nem szabad módosítani
+	 */
+	@Getter
+	protected boolean shared;
 
 	public Entity(boolean blocking, String name, char compatibilitySymbol, boolean unique, boolean extendsInCell) {
 		this.blocking = blocking;
@@ -56,6 +62,15 @@ public abstract class Entity {
 	 */
 	public abstract Entity clone ();
 
+	/**
+	 * Visszaadja a pályaelem közös, nem módosítható példányát, ha van neki ilyen
+	 * Csak annak a pályaelemnek lehet, aminek nincs cellánként eltérő állapota
+	 * @return a közös példány, vagy null, ha ennek a pályaelemnek nincs ilyen
+	 */
+	public Entity getSharedInstance () {
+		return null;
+	}
+
 	public String toString () {
 		return name;
 	}
@@ -11,19 +11,31 @@ import hu.nye.pandragon.wumpus.service.traits.StaticEntity;
  */
 public class Gold extends Entity implements StaticEntity, CanBePIckedUp {
 
+	private static final Gold SHARED = new Gold();
+
+	static {
+		SHARED.shared = true;
+	}
+
 	public Gold() {
 		super(false, "Arany", 'G', true, false);
 	}
 
 	@Override
 	public Entity clone() {
-		return new Gold();
+		return shared ? this : new Gold();
+	}
+
+	@Override
+	public Entity getSharedInstance() {
+		return SHARED;
 	}
 
 	@Override
 	public void onPickup(Level level, HasInventory entity) {
 		if (entity instanceof LivingEntity livingEntity) {
 			entity.addItem(Items.Gold);
+			level.entityChanged(livingEntity);
 			level.removeStaticEntity(livingEntity.getPosition());
 		}
 	}
@@ -46,7 +46,7 @@ public class Hero extends LivingEntity implements CanShoot, HasInventory {
 	public Entity clone() {
 		var clone = new Hero();
 		clone.setAmmoAmount(arrows);
-		clone.setPosition(position.x, position.y);
+		clone.setPosition(position.x(), position.y());
 		clone.setDirection(direction);
 		clone.setAlive(alive);
 		for (Map.Entry<Items, Integer> item : inventory.entrySet()) {
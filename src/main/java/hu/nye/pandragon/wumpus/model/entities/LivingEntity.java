@@ -1,12 +1,11 @@
 package hu.nye.pandragon.wumpus.model.entities;
 
 import hu.nye.pandragon.wumpus.model.Directions;
+import hu.nye.pandragon.wumpus.model.Position;
 import hu.nye.pandragon.wumpus.service.game.Level;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.awt.*;
-
 /**
  * Ez az osztály a lényeket írja le
  * Ezekről tudni lehet, hogy élnek-e
@@ -21,7 +20,7 @@ public abstract class LivingEntity extends Entity {
 	/**
 	 * A lény pozíciója a pályán
 	 */
-	protected final Point position;
+	protected Position position;
 	/**
 	 * Merre néz a hős?
 	 */
@@ -34,20 +33,20 @@ public abstract class LivingEntity extends Entity {
 	) {
 		super(false, name, compatibilitySymbol, unique, false);
 		alive = true;
-		this.position = new Point(0, 0);
+		this.position = Position.NONE;
 	}
 
 	public void setPosition (int x, int y) {
-		position.setLocation(x, y);
+		position = new Position(x, y);
 	}
 
-	public void setPosition (Point point) {
-		position.setLocation(point);
+	public void setPosition (Position position) {
+		this.position = position;
 	}
 
 	public void kill (Level level) {
 		alive = false;
-		level.removeLivingEntity(position);
+		level.removeKilledEntity(this);
 	}
 
 	public boolean isAlive() {
@@ -72,7 +71,7 @@ public abstract class LivingEntity extends Entity {
 
 /*	public String toString () {
 		return new StringBuilder(name).append(" @ ")
-				.append('[').append(position.x).append(" ; ").append(position.y).append(']')
+				.append('[').append(position.x()).append(" ; ").append(position.y()).append(']')
 				.toString();
 	}*/
 }
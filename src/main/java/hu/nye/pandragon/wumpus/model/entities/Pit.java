@@ -9,6 +9,12 @@ import hu.nye.pandragon.wumpus.service.traits.StaticEntity;
  */
 public class Pit extends Entity implements StaticEntity, ActionOnLivingEntityEnters {
 
+	private static final Pit SHARED = new Pit();
+
+	static {
+		SHARED.shared = true;
+	}
+
 	public Pit() {
 		super(false, "Verem", 'P', false, true);
 		displaySymbol = '░';
@@ -18,11 +24,17 @@ public class Pit extends Entity implements StaticEntity, ActionOnLivingEntityEnt
 	public void onLivingEntityEnters(Level level, LivingEntity livingEntity) {
 		if (livingEntity instanceof Hero hero) {
 			hero.decreaseArrows();
+			level.entityChanged(hero);
 		}
 	}
 
 	@Override
 	public Entity clone() {
-		return new Pit();
+		return shared ? this : new Pit();
+	}
+
+	@Override
+	public Entity getSharedInstance() {
+		return SHARED;
 	}
 }
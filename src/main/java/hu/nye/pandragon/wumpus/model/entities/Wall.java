@@ -1,20 +1,33 @@
 package hu.nye.pandragon.wumpus.model.entities;
 
+import hu.nye.pandragon.wumpus.model.Position;
 import hu.nye.pandragon.wumpus.model.WallShape;
 import hu.nye.pandragon.wumpus.service.traits.StaticEntity;
 import hu.nye.pandragon.wumpus.service.traits.WallsFitTo;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.Setter;
 
-import java.awt.*;
 import java.util.Map;
 
 @Getter
-@Setter
 @EqualsAndHashCode
 public class Wall extends Entity implements StaticEntity, WallsFitTo {
 
+	/**
+	 * A közös fal példányok formánként
+	 * Egy falnak csak a formája lehet más, így a cellában lévő példány egyben a cella falformája is
+	 */
+	private static final Wall[] SHARED = new Wall[WallShape.values().length];
+
+	static {
+		for (WallShape shape : WallShape.values()) {
+			var wall = new Wall();
+			wall.shape = shape;
+			wall.shared = true;
+			SHARED[shape.ordinal()] = wall;
+		}
+	}
+
 	private WallShape shape;
 
 	public Wall () {
@@ -28,33 +41,75 @@ public class Wall extends Entity implements StaticEntity, WallsFitTo {
 		return shape.getSymbol();
 	}
 
+	/**
+	 * A megadott formájú közös fal példány
+	 * @param shape a fal formája
+	 * @return a közös, nem módosítható példány
+	 */
+	public static Wall of (WallShape shape) {
+		return SHARED[shape.ordinal()];
+	}
+
+	/**
+	 * Egy ugyanilyen fal a megadott formával
+	 * Ha ez egy közös példány, akkor az új is az lesz, különben új példányt hoz létre
+	 * @param shape az új forma
+	 * @return a fal a megadott formával
+	 */
+	public Wall withShape (WallShape shape) {
+		if (shared) {
+			return of(shape);
+		}
+		var wall = new Wall();
+		wall.shape = shape;
+		return wall;
+	}
+
 	@Override
 	public Entity clone() {
-		var clone = new Wall();
-		clone.setShape(shape);
-		return clone;
+		return shared ? this : withShape(shape);
+	}
+
+	@Override
+	public Entity getSharedInstance() {
+		return of(shape);
 	}
 
 	/**
 	 * Ez a metődus a megadott pályán az aktuális fal elem környezetét ellenőrzi,
 	 * és megpróbálja pontosítani a falak formáját.
-	 * Ehhez megváltoztatja a karaktert, amely ezt az elemet képviselné.
+	 * A falat nem módosítja, hanem a withShape()-pel egy megfelelő formájú falat ad vissza.
 	 * Azaz,
 	 *  - ha ez az elem része egy vízszintes irányú falnak,
 	 * akkor vízszintesen hosszú falként fog megjelenni,
 	 *  - ha egy függőleges fal része, akkor függőlegesként,
 	 *  - a sarkokat sarkot formálóak is
 	 * @param entities a pályaelemek térképe, a falakra van csak szükség igazából
+	 * @return a fal a környezetéhez illő formával
+	 */
+	public Wall fitShape (Map<Position, Entity> entities, Position currentPosition) {
+		var x = currentPosition.x();
+		var y = currentPosition.y();
+
+		var top = entities.get(new Position(x, y - 1)) instanceof WallsFitTo;
+		var right = entities.get(new Position(x + 1, y)) instanceof WallsFitTo;
+		var bottom = entities.get(new Position(x, y + 1)) instanceof WallsFitTo;
+		var left = entities.get(new Position(x - 1, y)) instanceof WallsFitTo;
+		return fitShape(top, right, bottom, left);
+	}
+
+	/**
+	 * A fal formájának beállítása a szomszédai alapján
+	 * Ezt akkor érdemes használni, amikor a szomszédok már ismertek,
+	 * és nem kell őket egy Map-ből kikeresni
+	 * @param top van-e fal felette
+	 * @param right van-e fal a jobb oldalán
+	 * @param bottom van-e fal alatta
+	 * @param left van-e fal a bal oldalán
+	 * @return a fal a szomszédaihoz illő formával, közös példánynál szintén közös példány
 	 */
-	public void fitShape (Map<Point, Entity> entities, Point currentPosition) {
-		var x = currentPosition.x;
-		var y = currentPosition.y;
-
-		var top = entities.get(new Point(x, y - 1)) instanceof WallsFitTo;
-		var right = entities.get(new Point(x + 1, y)) instanceof WallsFitTo;
-		var bottom = entities.get(new Point(x, y + 1)) instanceof WallsFitTo;
-		var left = entities.get(new Point(x - 1, y)) instanceof WallsFitTo;
-		shape = WallShape.getShape(top, right, bottom, left);
+	public Wall fitShape (boolean top, boolean right, boolean bottom, boolean left) {
+		return withShape(WallShape.getShape(top, right, bottom, left));
 	}
 
 	/**
@@ -2,9 +2,13 @@ package hu.nye.pandragon.wumpus.model.entities;
 
 import hu.nye.pandragon.wumpus.service.game.Level;
 import hu.nye.pandragon.wumpus.service.traits.ActionOnLivingEntityEnters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class Wumpus extends LivingEntity implements ActionOnLivingEntityEnters {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(Wumpus.class);
+
 	public Wumpus() {
 		super("Wumpus", 'U', false);
 	}
@@ -18,7 +22,7 @@ public class Wumpus extends LivingEntity implements ActionOnLivingEntityEnters {
 
 	@Override
 	public void kill(Level level) {
-		System.out.println("Wumpus: Áááá!");
+		LOGGER.debug("Wumpus: Áááá!");
 		super.kill(level);
 	}
 
@@ -1,6 +1,5 @@
 package hu.nye.pandragon.wumpus.service.command;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 
 /**
@@ -23,6 +22,27 @@ public interface Command {
 	 */
 	void process (String input);
 
+	/**
+	 * A parancs végrehajtása, amikor a bemenet már szavakra van bontva
+	 * Az InputHandler ezt hívja, így a bemenetet csak egyszer kell szétbontani
+	 * Az argumentumokat használó parancsoknak ezt érdemes felülírniuk
+	 * @param input a parancs
+	 * @param tokens a parancs szavai
+	 */
+	default void process (String input, String[] tokens) {
+		process(input);
+	}
+
+	/**
+	 * A parancs első szava
+	 * Az InputHandler ez alapján csak a szóba jöhető parancsokat ellenőrzi,
+	 * ha null, akkor minden bemenetnél ellenőrizni kell ezt a parancsot
+	 * @return az első szó, vagy null
+	 */
+	default String getFirstToken () {
+		return null;
+	}
+
 	/**
 	 * Visszaadja a parancs paramétereit, feltételezve, hogy
 	 * a parancs maga a bemenet első szava
@@ -42,10 +62,48 @@ public interface Command {
 	 * @return a parancs argumentumai
 	 */
 	static String[] getCommandArgs (int from, String input) {
-		var list = new ArrayList<>(Arrays.asList(input.split("\\s+")));
-		if (from > 0) {
-			list.subList(0, from).clear();
+		return getCommandArgs(from, tokenize(input));
+	}
+
+	/**
+	 * A parancs argumentumai a már szavakra bontott bemenetből
+	 * @param from hány szó maga a parancs
+	 * @param tokens a bemenet szavai
+	 * @return a parancs argumentumai
+	 */
+	static String[] getCommandArgs (int from, String[] tokens) {
+		return Arrays.copyOfRange(tokens, Math.min(from, tokens.length), tokens.length);
+	}
+
+	/**
+	 * Szavakra bontja a bemenetet, a szavakat whitespace karakterek választják el
+	 * Regex nélkül, egy menetben dolgozik
+	 * @param input a bemenet
+	 * @return a szavak, üres bemenetnél üres tömb
+	 */
+	static String[] tokenize (String input) {
+		var count = 0;
+		var inToken = false;
+		for (int i = 0; i < input.length(); i++) {
+			var whitespace = Character.isWhitespace(input.charAt(i));
+			if (!whitespace && !inToken) {
+				count++;
+			}
+			inToken = !whitespace;
+		}
+		var tokens = new String[count];
+		var n = 0;
+		var start = -1;
+		for (int i = 0; i <= input.length(); i++) {
+			var whitespace = i == input.length() || Character.isWhitespace(input.charAt(i));
+			if (whitespace && start != -1) {
+				tokens[n++] = input.substring(start, i);
+				start = -1;
+			}
+			else if (!whitespace && start == -1) {
+				start = i;
+			}
 		}
-		return list.toArray(new String[0]);
+		return tokens;
 	}
 }
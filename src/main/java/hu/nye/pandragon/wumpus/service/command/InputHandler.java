@@ -1,9 +1,13 @@
 package hu.nye.pandragon.wumpus.service.command;
 
 import hu.nye.pandragon.wumpus.service.command.impl.DefaultCommand;
-import hu.nye.pandragon.wumpus.ui.PrintWrapper;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Ez az osztály kezeli a felhasználótól származó bemenetet,
@@ -11,13 +15,22 @@ import java.util.List;
  */
 public class InputHandler {
 
+	/**
+	 * Egy parancs legfeljebb ennyiszer ismételhető, pl. 'lép 5'
+	 */
+	public static final int MAX_REPEAT = 1000;
+
 	//    private final EnumMap<GameplayCommands, Command> commandList;
 	private final List<Command> commandList;
-
 	/**
-	 * Egy PrintWrapper objektum, ami hasznos lehet teszteléskor
+	 * A parancsok az első szavuk szerint, így egy bemenetnél csak a szóba jöhetőket kell ellenőrizni
 	 */
-	private PrintWrapper printWrapper;
+	private final Map<String, List<Command>> commandsByFirstToken;
+	/**
+	 * Azok a parancsok, amelyeknek nincs megadva az első szava, ezeket minden bemenetnél ellenőrizni kell
+	 */
+	private final List<Command> unindexedCommands;
+	private final Command defaultCommand;
 
 	/**
 	 * Itt a parancsokat előre listába kell szedni egy olyan helyen, ahol elérhető a Level objektum,
@@ -25,35 +38,196 @@ public class InputHandler {
 	 * @param commandList a parancsok listája, amit ez az InputHandler kezel
 	 */
 	public InputHandler(List<Command> commandList) {
-		this.commandList = commandList;
-		printWrapper = new PrintWrapper();
+		this(commandList, new DefaultCommand());
 	}
 
-	public void setPrintWrapper(PrintWrapper printWrapper) {
-		this.printWrapper = printWrapper;
+	/**
+	 * @param commandList a parancsok listája, amit ez az InputHandler kezel
+	 * @param defaultCommand ez fut le, ha egyik parancs sem illeszkedik a bemenetre
+	 */
+	public InputHandler(List<Command> commandList, Command defaultCommand) {
+		this.commandList = commandList;
+		commandsByFirstToken = new HashMap<>();
+		unindexedCommands = new ArrayList<>();
+		for (Command command : commandList) {
+			var firstToken = command.getFirstToken();
+			if (firstToken == null) {
+				unindexedCommands.add(command);
+			}
+			else {
+				commandsByFirstToken.computeIfAbsent(firstToken, k -> new ArrayList<>()).add(command);
+			}
+		}
+		this.defaultCommand = defaultCommand;
 	}
 
 	/**
 	 * A megadott {@link Command} objektumok listájából az első,
 	 * a bemenetre alkalmazható parancs lesz végrehajtva.
+	 * A bemenetet egyszer bontja szavakra, és csak azokat a parancsokat ellenőrzi,
+	 * amelyeknek az első szava egyezik, illetve amelyeknek nincs megadva az első szava
+	 * Ha ezek közül egyik sem illeszkedik, akkor még azokat a parancsokat is ellenőrzi, amelyeknek az első szavával
+	 * kezdődik a bemenet, pl. 'lépés' esetén a 'lép' parancsot, így az elírt parancsnál is a parancs használata jelenik meg,
+	 * nem az, hogy ismeretlen
 	 * A bemenetet a metódus kisbetűssé alakítja, erre külön nincs szükség
+	 * Ha a parancs felismerhető, de a használata hibás, akkor nem fut le, és a használatáról szóló üzenetet
+	 * adja vissza, ennek kiírása a hívó dolga, így ez az osztály semmit nem ír ki
 	 * @param input bemenet a felhasználótól.
+	 * @return a parancs hibás használatáról szóló üzenet, vagy null, ha a bemenet feldolgozásra került
 	 */
-	public void handleInput(String input) {
+	public String handleInput(String input) {
 		input = input.trim().toLowerCase();
+		var tokens = Command.tokenize(input);
+		if (tokens.length > 0) {
+			var candidates = commandsByFirstToken.get(tokens[0]);
+			if (candidates != null) {
+				var result = tryCommands(candidates, input, tokens);
+				if (result != null) {
+					return result.getMessage();
+				}
+			}
+		}
+		var result = tryCommands(unindexedCommands, input, tokens);
+		if (result == null) {
+			result = tryPrefixCommands(input, tokens);
+		}
+		if (result != null) {
+			return result.getMessage();
+		}
+		defaultCommand.process(input, tokens);
+		return null;
+	}
+
+	/**
+	 * Egy sorban több parancs is megadható ';' jellel elválasztva,
+	 * és egy parancs után megadható, hányszor fusson le, pl. 'lép 5'
+	 * Ez a metódus a sort a lefuttatandó parancsok listájává alakítja, a parancsokat még nem futtatja
+	 * Ha a sorban nincs parancs, akkor a lista egy üres parancsot tartalmaz, így az üres sor ugyanúgy kerül feldolgozásra, mint eddig
+	 * @param line a sor a felhasználótól
+	 * @return a parancsok, a futtatásuk sorrendjében
+	 * @throws RuntimeException ha egy ismétlések száma túl nagy
+	 */
+	public List<String> splitInput (String line) {
+		var commands = new ArrayList<String>();
+		for (String input : splitCommands(line)) {
+			commands.addAll(expandRepeat(input));
+		}
+		if (commands.isEmpty()) {
+			commands.add("");
+		}
+		return commands;
+	}
+
+	/**
+	 * A sor ';' jellel elválasztott parancsai, kisbetűsen, az üresek nélkül
+	 * @param line a sor a felhasználótól
+	 * @return a parancsok
+	 */
+	public static List<String> splitCommands (String line) {
+		var commands = new ArrayList<String>();
+		var start = 0;
+		while (start <= line.length()) {
+			var end = line.indexOf(';', start);
+			if (end == -1) {
+				end = line.length();
+			}
+			var input = line.substring(start, end).trim().toLowerCase();
+			if (!input.isEmpty()) {
+				commands.add(input);
+			}
+			start = end + 1;
+		}
+		return commands;
+	}
+
+	/**
+	 * Ha a parancs végén egy szám van, és a parancs enélkül helyes, akkor a szám az ismétlések száma
+	 * Ha a szám a parancs része, pl. 'törlés c 4', akkor a parancs egyszer fut le
+	 * @param input egy parancs
+	 * @return a parancs annyiszor, ahányszor le kell futnia
+	 * @throws RuntimeException ha az ismétlések száma 1 és MAX_REPEAT között kívül esik
+	 */
+	public List<String> expandRepeat (String input) {
+		var tokens = Command.tokenize(input);
+		if (tokens.length < 2 || !isNumber(tokens[tokens.length - 1]) || accepts(input, tokens)) {
+			return List.of(input);
+		}
+		var commandTokens = Arrays.copyOf(tokens, tokens.length - 1);
+		var command = String.join(" ", commandTokens);
+		if (!accepts(command, commandTokens)) {
+			return List.of(input);
+		}
+		var last = tokens[tokens.length - 1];
+		var count = last.length() > 4 ? MAX_REPEAT + 1 : Integer.parseInt(last);
+		if (count < 1 || count > MAX_REPEAT) {
+			throw new RuntimeException(String.format("Egy parancs 1 - %d alkalommal ismételhető", MAX_REPEAT));
+		}
+		return Collections.nCopies(count, command);
+	}
+
+	/**
+	 * Van-e olyan parancs, ami végrehajtaná ezt a bemenetet
+	 */
+	private boolean accepts (String input, String[] tokens) {
+		var candidates = commandsByFirstToken.get(tokens[0]);
+		if (candidates != null) {
+			for (Command command : candidates) {
+				if (command.match(input).canBeProcessed()) {
+					return true;
+				}
+			}
+		}
+		for (Command command : unindexedCommands) {
+			if (command.match(input).canBeProcessed()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isNumber (String s) {
+		for (int i = 0; i < s.length(); i++) {
+			if (!Character.isDigit(s.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Azok a parancsok, amelyeknek az első szava nem egyezik a bemenet első szavával, de a bemenet azzal kezdődik
+	 * Ezeket a handleInput() már nem ellenőrizte, a sorrendjük a parancsok listájának sorrendje
+	 * @return az illeszkedő parancs eredménye, vagy null, ha egyik sem illeszkedik
+	 */
+	private CommandMatcherResult tryPrefixCommands (String input, String[] tokens) {
 		for (Command command : commandList) {
+			var firstToken = command.getFirstToken();
+			if (firstToken == null || !input.startsWith(firstToken) || tokens.length > 0 && firstToken.equals(tokens[0])) {
+				continue;
+			}
+			var result = tryCommands(List.of(command), input, tokens);
+			if (result != null) {
+				return result;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Az első illeszkedő parancsot futtatja, ha a használata helyes
+	 * @return az illeszkedő parancs eredménye, vagy null, ha egyik sem illeszkedik
+	 */
+	private CommandMatcherResult tryCommands (List<Command> commands, String input, String[] tokens) {
+		for (int i = 0; i < commands.size(); i++) {
+			var command = commands.get(i);
 			var result = command.match(input);
 			if (result.isCommandMatches()) {
-				var message = result.getMessage();
-				if (message == null) {
-					command.process(input);
-				}
-				else {
-					printWrapper.println(message);
+				if (result.getMessage() == null) {
+					command.process(input, tokens);
 				}
-				return;
+				return result;
 			}
 		}
-		new DefaultCommand().process(input);
+		return null;
 	}
 }
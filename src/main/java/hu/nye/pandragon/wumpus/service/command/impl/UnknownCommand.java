@@ -0,0 +1,23 @@
+package hu.nye.pandragon.wumpus.service.command.impl;
+
+import hu.nye.pandragon.wumpus.service.command.Command;
+import hu.nye.pandragon.wumpus.service.command.CommandMatcherResult;
+
+/**
+ * A DefaultCommand helyett használható, amikor nincs konzol, ahová a hibaüzenetet ki lehetne írni
+ * Kiírás helyett kivételt dob, így a hívó dönti el, mit kezd az ismeretlen paranccsal
+ */
+public class UnknownCommand implements Command {
+
+	private static final String UNKNOWN_COMMAND_MESSAGE = "Ismeretlen parancs: ";
+
+	@Override
+	public CommandMatcherResult match(String input) {
+		return CommandMatcherResult.ofCorrectMatchingCommand();
+	}
+
+	@Override
+	public void process(String input) {
+		throw new RuntimeException(UNKNOWN_COMMAND_MESSAGE + input);
+	}
+}
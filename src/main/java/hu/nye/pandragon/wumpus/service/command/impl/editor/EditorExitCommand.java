@@ -4,21 +4,56 @@ import hu.nye.pandragon.wumpus.model.LevelEditorCommands;
 import hu.nye.pandragon.wumpus.model.Screen;
 import hu.nye.pandragon.wumpus.service.command.Command;
 import hu.nye.pandragon.wumpus.service.command.CommandMatcherResult;
+import hu.nye.pandragon.wumpus.service.game.Level;
+import hu.nye.pandragon.wumpus.service.game.LevelValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Ez a parancs egy képernyőből való kilépésre szolgál
  * Megszakítja az aktuálisat, és visszalép az előzőbe
+ * Ha pályát is kap, akkor kilépés előtt ellenőrzi, hogy a pálya teljesíthető-e
+ * Nem teljesíthető pályánál nem lép ki, csak kiírja a hibát,
+ * ha viszont a pálya változtatása nélkül újra kiadják a parancsot, akkor kilép, de a pálya elvetendő
+ * Ha a pálya túl nagy a teljes ellenőrzéshez, akkor szintén nem lép ki elsőre, csak figyelmeztet,
+ * újbóli kiadáskor kilép, és a pálya megtartható, mert nem derült ki róla, hogy hibás
  */
 public class EditorExitCommand implements Command {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(EditorExitCommand.class);
 
     private final Screen screen;
+    private final Level level;
+    private final LevelValidator validator;
+    /**
+     * Melyik módosítási állapotában utasította el a pályát, vagy figyelmeztetett rá legutóbb, -1, ha még egyiket sem tette
+     */
+    private long warnedStamp = -1;
+    /**
+     * Nem teljesíthető pályával lépett-e ki, ekkor a pályát nem szabad elmenteni
+     */
+    private boolean levelRejected;
 
     public EditorExitCommand(Screen screen) {
+        this(screen, null, null);
+    }
+
+    /**
+     * @param screen a képernyő, amiből kilép
+     * @param level a pálya, amit kilépés előtt ellenőriz
+     * @param validator az ellenőrzést végzi
+     */
+    public EditorExitCommand(Screen screen, Level level, LevelValidator validator) {
         this.screen = screen;
+        this.level = level;
+        this.validator = validator;
+    }
+
+    /**
+     * Nem teljesíthető pályával lépett-e ki
+     */
+    public boolean isLevelRejected() {
+        return levelRejected;
     }
 
     @Override
@@ -26,9 +61,38 @@ public class EditorExitCommand implements Command {
         return LevelEditorCommands.Exit.matches(input);
     }
 
+    @Override
+    public String getFirstToken() {
+        return LevelEditorCommands.Exit.getBase();
+    }
+
     @Override
     public void process(String input) {
         LOGGER.info("Performing exit command");
+        if (level != null) {
+            var result = validator.validate(level);
+            if (result.limitReached()) {
+                if (warnedStamp != level.getModificationStamp()) {
+                    warnedStamp = level.getModificationStamp();
+                    LOGGER.warn("A pálya túl nagy, nem ellenőrizhető teljesen");
+                    throw new RuntimeException(String.format(
+                            "%s. Add ki újra a parancsot, ha így is ki szeretnél lépni, a pálya el lesz mentve",
+                            result.getMessage()));
+                }
+                LOGGER.info("Kilépés a teljesen nem ellenőrzött pályával");
+            }
+            else if (!result.solvable()) {
+                if (warnedStamp != level.getModificationStamp()) {
+                    warnedStamp = level.getModificationStamp();
+                    LOGGER.info("A pálya nem teljesíthető: {}", result.getMessage());
+                    throw new RuntimeException(String.format(
+                            "A pálya nem teljesíthető: %s. Javítsd ki, vagy add ki újra a parancsot, ekkor a pálya nem lesz elmentve",
+                            result.getMessage()));
+                }
+                LOGGER.info("Kilépés a nem teljesíthető pálya elvetésével");
+                levelRejected = true;
+            }
+        }
         screen.setShouldExit(true);
     }
 
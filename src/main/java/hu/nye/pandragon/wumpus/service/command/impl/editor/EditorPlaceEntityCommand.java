@@ -28,9 +28,19 @@ public class EditorPlaceEntityCommand implements Command {
 		return LevelEditorCommands.Place.matches(input);
 	}
 
+	@Override
+	public String getFirstToken() {
+		return LevelEditorCommands.Place.getBase();
+	}
+
 	@Override
 	public void process(String input) {
-		var args = Command.getCommandArgs(input);
+		process(input, Command.tokenize(input));
+	}
+
+	@Override
+	public void process(String input, String[] tokens) {
+		var args = Command.getCommandArgs(1, tokens);
 		LOGGER.info("Új pályaelem létrehozása: " + args);
 		var entity = Entities.parseName(args[0]).createNewInstance();
 		if (entity instanceof Wumpus && level.getEntityCount(entity) >= level.getMaxWumpus()) {
@@ -39,10 +49,10 @@ public class EditorPlaceEntityCommand implements Command {
 			throw new RuntimeException(error);
 		}
 		var position = CommandUtils.getCoordinates(args[1], args[2], level.getSize());
-		level.placeEntity(position.x, position.y, entity);
 		if (entity instanceof Hero hero) {
 			hero.setAmmoAmount(level.getMaxWumpus());
 		}
-		LOGGER.info("Új pályaelem: {} -> {}, {}", entity.getName(), position.x, position.y);
+		level.placeEntity(position.x(), position.y(), entity);
+		LOGGER.info("Új pályaelem: {} -> {}, {}", entity.getName(), position.x(), position.y());
 	}
 }
@@ -25,9 +25,19 @@ public class EditorRemoveEntityCommand implements Command {
 		return LevelEditorCommands.Remove.matches(input);
 	}
 
+	@Override
+	public String getFirstToken() {
+		return LevelEditorCommands.Remove.getBase();
+	}
+
 	@Override
 	public void process(String input) {
-		var args = Command.getCommandArgs(input);
+		process(input, Command.tokenize(input));
+	}
+
+	@Override
+	public void process(String input, String[] tokens) {
+		var args = Command.getCommandArgs(1, tokens);
 		LOGGER.info("Pályaelem eltávolítása: {} {}", args[0], args[1]);
 
 		var position = CommandUtils.getCoordinates(args[0], args[1], level.getSize());
@@ -41,6 +51,6 @@ public class EditorRemoveEntityCommand implements Command {
 			}
 		}
 
-		LOGGER.info("Pályaelem eltávolítva: {} -> {} {}", entity.getName(), position.x, position.y);
+		LOGGER.info("Pályaelem eltávolítva: {} -> {} {}", entity.getName(), position.x(), position.y());
 	}
 }
@@ -25,13 +25,23 @@ public class EditorRotateCommand implements Command {
 		return LevelEditorCommands.RotateHero.matches(input);
 	}
 
+	@Override
+	public String getFirstToken() {
+		return LevelEditorCommands.RotateHero.getBase();
+	}
+
 	@Override
 	public void process(String input) {
+		process(input, Command.tokenize(input));
+	}
+
+	@Override
+	public void process(String input, String[] tokens) {
 		LOGGER.info("Hős elforgatása");
-		var args = Command.getCommandArgs(2, input);
+		var args = Command.getCommandArgs(2, tokens);
 		var direction = Directions.parseSymbol(args[0].toUpperCase().toCharArray()[0]);
 		var hero = level.getHero();
-		hero.setDirection(direction);
+		level.turnEntity(hero, direction);
 		LOGGER.info("Hős elforgatva " + direction.name());
 	}
 }
@@ -5,6 +5,7 @@ import hu.nye.pandragon.wumpus.model.PlayernameVO;
 import hu.nye.pandragon.wumpus.service.command.Command;
 import hu.nye.pandragon.wumpus.service.command.CommandMatcherResult;
 import hu.nye.pandragon.wumpus.service.game.Level;
+import hu.nye.pandragon.wumpus.ui.BufferedPrintWrapper;
 import hu.nye.pandragon.wumpus.ui.GameplayScreen;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,11 +27,16 @@ public class EditorTestCommand implements Command {
 		return LevelEditorCommands.Test.matches(input);
 	}
 
+	@Override
+	public String getFirstToken() {
+		return LevelEditorCommands.Test.getBase();
+	}
+
 	@Override
 	public void process(String input) {
 		LOGGER.info("Pálya tesztelésének indítása...");
 
-		var gameplay = new GameplayScreen(level.toLevelVO(), new PlayernameVO("Teszt"));
+		var gameplay = new GameplayScreen(level.toLevelVO(), new PlayernameVO("Teszt"), new BufferedPrintWrapper());
 		gameplay.start();
 
 		LOGGER.info("A játékos kilépett a pálya teszteléséből");
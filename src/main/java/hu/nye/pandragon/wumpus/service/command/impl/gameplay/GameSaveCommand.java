@@ -5,24 +5,20 @@ import hu.nye.pandragon.wumpus.model.PlayernameVO;
 import hu.nye.pandragon.wumpus.persistence.impl.JdbcGameStateRepository;
 import hu.nye.pandragon.wumpus.service.command.Command;
 import hu.nye.pandragon.wumpus.service.command.CommandMatcherResult;
-import hu.nye.pandragon.wumpus.service.game.Level;
+import hu.nye.pandragon.wumpus.service.game.GameSession;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.atomic.AtomicInteger;
-
 /**
  * Ez a parancs a játék mentésére szolgál
  */
 @Slf4j
 public class GameSaveCommand implements Command {
-	private final Level level;
+	private final GameSession session;
 	private final PlayernameVO playername;
-	private final AtomicInteger steps;
 
-	public GameSaveCommand(PlayernameVO playername, Level level, AtomicInteger steps) {
-		this.level = level;
+	public GameSaveCommand(PlayernameVO playername, GameSession session) {
+		this.session = session;
 		this.playername = playername;
-		this.steps = steps;
 	}
 
 	@Override
@@ -30,13 +26,18 @@ public class GameSaveCommand implements Command {
 		return GameplayCommands.SaveAndQuit.matches(input);
 	}
 
+	@Override
+	public String getFirstToken() {
+		return GameplayCommands.SaveAndQuit.getBase();
+	}
+
 	@Override
 	public void process(String input) {
 		log.info("Játékállás mentése {} játékosnak", playername);
-		log.debug("Eddig megtett lépések száma: " + steps.get());
+		log.debug("Eddig megtett lépések száma: " + session.getSteps());
 		try {
 			var repository = new JdbcGameStateRepository();
-			repository.save(playername, level.toLevelVO(steps.get()));
+			repository.save(playername, session.getLevel().toLevelVO(session.getSteps()));
 		} catch (Exception e) {
 			var msg = "Hiba történt a játékállás mentésekor";
 			log.error("{}: {}", msg, e.getMessage());
@@ -1,9 +1,9 @@
 package hu.nye.pandragon.wumpus.service.command.impl.gameplay;
 
 import hu.nye.pandragon.wumpus.model.GameplayCommands;
-import hu.nye.pandragon.wumpus.model.Screen;
 import hu.nye.pandragon.wumpus.service.command.Command;
 import hu.nye.pandragon.wumpus.service.command.CommandMatcherResult;
+import hu.nye.pandragon.wumpus.service.game.GameSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -15,10 +15,10 @@ public class GameplayExitCommand implements Command {
     private static final Logger LOGGER = LoggerFactory.getLogger(GameplayExitCommand.class);
 
 
-    private final Screen screen;
+    private final GameSession session;
 
-    public GameplayExitCommand(Screen screen) {
-        this.screen = screen;
+    public GameplayExitCommand(GameSession session) {
+        this.session = session;
     }
 
     @Override
@@ -26,10 +26,15 @@ public class GameplayExitCommand implements Command {
         return GameplayCommands.GiveUp.matches(input);
     }
 
+    @Override
+    public String getFirstToken() {
+        return GameplayCommands.GiveUp.getBase();
+    }
+
     @Override
     public void process(String input) {
         LOGGER.info("Performing exit command");
-        screen.setShouldExit(true);
+        session.giveUp();
     }
 
 }
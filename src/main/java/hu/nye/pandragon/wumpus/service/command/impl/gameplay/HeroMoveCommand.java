@@ -25,6 +25,11 @@ public class HeroMoveCommand implements Command {
 		return GameplayCommands.MoveForward.matches(input);
 	}
 
+	@Override
+	public String getFirstToken() {
+		return GameplayCommands.MoveForward.getBase();
+	}
+
 	@Override
 	public void process(String input) {
 		LOGGER.info("A előre lép egyet");
@@ -25,11 +25,17 @@ public class HeroPickUpCommand implements Command {
 		return GameplayCommands.PickUpGold.matches(input);
 	}
 
+	@Override
+	public String getFirstToken() {
+		return GameplayCommands.PickUpGold.getBase();
+	}
+
 	@Override
 	public void process(String input) {
 		LOGGER.info("A hős megpróbálja felvenni a pozícióján lévő tárgyat");
 		var hero = level.getHero();
-		if (level.toLevelVO().getStaticEntities().get(hero.getPosition()) instanceof CanBePIckedUp item) {
+		var position = hero.getPosition();
+		if (level.getStaticEntity(position.x(), position.y()) instanceof CanBePIckedUp item) {
 			item.onPickup(level, hero);
 			LOGGER.info("A hős felvett egy új tárgyat: {}, a tárgyai most: {}", item, hero.getInventory());
 		}
@@ -25,6 +25,11 @@ public class HeroShootCommand implements Command {
 		return GameplayCommands.Shoot.matches(input);
 	}
 
+	@Override
+	public String getFirstToken() {
+		return GameplayCommands.Shoot.getBase();
+	}
+
 	@Override
 	public void process(String input) {
 		LOGGER.info("A hős lő");
@@ -26,9 +26,19 @@ public class HeroTurnCommand implements Command {
 		return GameplayCommands.Turn.matches(input);
 	}
 
+	@Override
+	public String getFirstToken() {
+		return GameplayCommands.Turn.getBase();
+	}
+
 	@Override
 	public void process(String input) {
-		var args = Command.getCommandArgs(input);
+		process(input, Command.tokenize(input));
+	}
+
+	@Override
+	public void process(String input, String[] tokens) {
+		var args = Command.getCommandArgs(1, tokens);
 		LOGGER.info("A hős forgatása " + args[0]);
 		var direction = TurnDirections.parse(args[0]);
 		var hero = level.getHero();
@@ -0,0 +1,127 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import java.util.Arrays;
+
+/**
+ * Cellaindexekhez nem negatív egész számokat rendel, nyílt címzésű hash táblában
+ * A LevelIndex ebben tartja, hogy egy cella hányadik helyen van a fajtája celláinak tömbjében
+ * Cellánként egy tömbelem helyett csak a foglalt cellák kerülnek bele, így a mérete
+ * a pályaelemek számától függ, nem a pálya területétől, ami egy 4096x4096-os pályán sokat számít,
+ * a keresés, a beírás és a törlés ideje pedig átlagosan konstans
+ * Ütközéskor a következő szabad helyre kerül a kulcs, törléskor a mögötte lévő kulcsok visszacsúsznak,
+ * így nem maradnak törölt jelölések a táblában
+ */
+class CellSlotMap {
+
+	private static final int FREE = -1;
+
+	private int[] keys;
+	private int[] values;
+	private int mask;
+	private int size;
+
+	CellSlotMap () {
+		allocate(16);
+	}
+
+	/**
+	 * A cellához rendelt szám
+	 * @param key a cella indexe
+	 * @return a szám, vagy -1, ha a cella nincs a táblában
+	 */
+	int get (int key) {
+		var i = find(key);
+		return i == -1 ? -1 : values[i];
+	}
+
+	/**
+	 * Beírja vagy felülírja a cellához rendelt számot
+	 * @param key a cella indexe, nem lehet negatív
+	 * @param value a szám
+	 */
+	void put (int key, int value) {
+		if (key < 0) {
+			throw new IllegalArgumentException("A cella indexe nem lehet negatív: " + key);
+		}
+		var i = hash(key);
+		while (keys[i] != FREE) {
+			if (keys[i] == key) {
+				values[i] = value;
+				return;
+			}
+			i = (i + 1) & mask;
+		}
+		keys[i] = key;
+		values[i] = value;
+		if (++size * 2 > keys.length) {
+			grow();
+		}
+	}
+
+	/**
+	 * Kiveszi a cellát a táblából, ha benne van
+	 * @param key a cella indexe
+	 */
+	void remove (int key) {
+		var i = find(key);
+		if (i == -1) {
+			return;
+		}
+		var j = i;
+		while (true) {
+			j = (j + 1) & mask;
+			if (keys[j] == FREE) {
+				break;
+			}
+			// a j helyen lévő kulcs akkor csúszhat vissza az i helyre, ha az eredeti helye nem i és j közé esik
+			var home = hash(keys[j]);
+			var between = i <= j ? i < home && home <= j : i < home || home <= j;
+			if (!between) {
+				keys[i] = keys[j];
+				values[i] = values[j];
+				i = j;
+			}
+		}
+		keys[i] = FREE;
+		size--;
+	}
+
+	int size () {
+		return size;
+	}
+
+	private int find (int key) {
+		var i = hash(key);
+		while (keys[i] != FREE) {
+			if (keys[i] == key) {
+				return i;
+			}
+			i = (i + 1) & mask;
+		}
+		return -1;
+	}
+
+	private int hash (int key) {
+		var h = key * 0x9E3779B9;
+		return (h ^ h >>> 16) & mask;
+	}
+
+	private void grow () {
+		var oldKeys = keys;
+		var oldValues = values;
+		allocate(oldKeys.length * 2);
+		size = 0;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != FREE) {
+				put(oldKeys[i], oldValues[i]);
+			}
+		}
+	}
+
+	private void allocate (int capacity) {
+		keys = new int[capacity];
+		values = new int[capacity];
+		Arrays.fill(keys, FREE);
+		mask = capacity - 1;
+	}
+}
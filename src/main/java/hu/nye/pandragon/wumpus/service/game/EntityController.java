@@ -1,8 +1,6 @@
 package hu.nye.pandragon.wumpus.service.game;
 
-import hu.nye.pandragon.wumpus.model.Directions;
 import hu.nye.pandragon.wumpus.model.TurnDirections;
-import hu.nye.pandragon.wumpus.model.entities.Entity;
 import hu.nye.pandragon.wumpus.model.entities.Hero;
 import hu.nye.pandragon.wumpus.model.entities.LivingEntity;
 import hu.nye.pandragon.wumpus.service.traits.ActionOnLivingEntityEnters;
@@ -11,8 +9,6 @@ import lombok.EqualsAndHashCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.awt.*;
-
 /**
  * Ez az osztály egy lény egy pályán való mozgatásáért felel
  */
@@ -23,50 +19,29 @@ public class EntityController {
 
 	private final LivingEntity entity;
 	private final Level level;
-	private final Point entityPosition;
 
 	public EntityController(Level level, LivingEntity entity) {
 		this.level = level;
 		this.entity = entity;
-		this.entityPosition = entity.getPosition();
 	}
 
 	public boolean moveForward () {
 		var direction = entity.getDirection();
-		var possibleDirections = level.getPossibleMoves(entityPosition);
-		LOGGER.debug("Lehetséges járható irányok: " + possibleDirections);
-		if (!possibleDirections.containsKey(direction)) {
+		var entityPosition = entity.getPosition();
+		if (!level.canMove(entityPosition.x(), entityPosition.y(), direction)) {
 			return false;
 		}
-		int x = entityPosition.x, y = entityPosition.y;
-		if (direction == Directions.North) {
-			y--;
-		}
-		else if (direction == Directions.East) {
-			x++;
-		}
-		else if (direction == Directions.South) {
-			y++;
-		}
-		else if (direction == Directions.West) {
-			x--;
-		}
+		int x = entityPosition.x() + direction.getDx(), y = entityPosition.y() + direction.getDy();
 		if (entity instanceof Hero hero) {
-			var levelVO = level.toLevelVO();
-			var point = new Point(x, y);
-			Entity nextEntity = levelVO.getLivingEntities().get(point);
-			if (nextEntity == null) {
-				nextEntity = levelVO.getStaticEntities().get(point);
-			}
-			LOGGER.debug("hero move next entity: " + nextEntity);
+			var nextEntity = level.getEntityAt(x, y);
+			LOGGER.debug("hero move next entity: {}", nextEntity);
 			if (nextEntity instanceof ActionOnLivingEntityEnters location) {
 				location.onLivingEntityEnters(level, hero);
 			}
 		}
-		LOGGER.debug("moveForward: " + entity);
-		level.removeEntityIfExists(entity);
+		LOGGER.debug("moveForward: {}", entity);
 		if (entity.isAlive()) {
-			level.placeEntity(x, y, entity);
+			level.moveEntity(entity, x, y);
 		}
 		return true;
 	}
@@ -81,21 +56,22 @@ public class EntityController {
 	}
 
 	public void turnRight () {
-		entity.setDirection(entity.getDirection().getClockwiseNext());
+		level.turnEntity(entity, entity.getDirection().getClockwiseNext());
 	}
 
 	public void turnLeft () {
-		entity.setDirection(entity.getDirection().getClockwisePrevious());
+		level.turnEntity(entity, entity.getDirection().getClockwisePrevious());
 	}
 
 	public void shoot () {
 		if (entity instanceof CanShoot shooter) {
-			var target = level.getFirstEntityInDirection(entityPosition, entity.getDirection(), true);
-			System.out.println("target: " + target.getClass());
+			var target = level.getFirstEntityInDirection(entity.getPosition(), entity.getDirection(), true);
+			LOGGER.debug("Lövés célpontja: {}", target);
 			if (target instanceof LivingEntity livingEntity) {
 				livingEntity.kill(level);
 			}
 			shooter.onShoot();
+			level.entityChanged(entity);
 		}
 	}
 }
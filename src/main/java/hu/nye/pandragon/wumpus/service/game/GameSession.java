@@ -0,0 +1,151 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.GameState;
+import hu.nye.pandragon.wumpus.model.Items;
+import hu.nye.pandragon.wumpus.model.LevelVO;
+import hu.nye.pandragon.wumpus.model.StepOutcome;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.service.command.Command;
+import hu.nye.pandragon.wumpus.service.command.InputHandler;
+import hu.nye.pandragon.wumpus.service.command.impl.UnknownCommand;
+import hu.nye.pandragon.wumpus.service.command.impl.gameplay.GameplayExitCommand;
+import hu.nye.pandragon.wumpus.service.command.impl.gameplay.HeroMoveCommand;
+import hu.nye.pandragon.wumpus.service.command.impl.gameplay.HeroPickUpCommand;
+import hu.nye.pandragon.wumpus.service.command.impl.gameplay.HeroShootCommand;
+import hu.nye.pandragon.wumpus.service.command.impl.gameplay.HeroTurnCommand;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ez az osztály egy játékmenetet működtet, konzol és kiírás nélkül
+ * Itt vannak a játék szabályai: a lépések számolása, és annak eldöntése, hogy véget ért-e a játék
+ * A parancsokat a step() metódus kapja meg egyesével, és mindegyikről visszaadja, mi lett az eredménye
+ * A GameplayScreen ennek a felülete a konzolon, de ugyanígy használható felület nélkül is
+ */
+@Slf4j
+public class GameSession {
+
+	private final Level level;
+	/**
+	 * A hős, a megölt hős lekerül a pályáról, ezért külön kell tárolni
+	 */
+	private final Hero hero;
+	private final List<Command> commands;
+	private InputHandler inputHandler;
+	private int steps;
+	private boolean gaveUp;
+
+	/**
+	 * @param levelVO a pálya, a játék ennek egy új példányán folyik
+	 * @throws RuntimeException ha nincs hős a pályán
+	 */
+	public GameSession (LevelVO levelVO) {
+		level = new Level(levelVO);
+		hero = level.getHero();
+		if (hero == null) {
+			throw new RuntimeException("Nincs hős a pályán. Használd a pályaszerkesztőt, hogy hozzáadd a pályához.");
+		}
+		log.debug("Hős: " + hero);
+		commands = new ArrayList<>(List.of(
+				new HeroMoveCommand(level),
+				new HeroTurnCommand(level),
+				new HeroShootCommand(level),
+				new GameplayExitCommand(this),
+				new HeroPickUpCommand(level)
+		));
+		inputHandler = createInputHandler();
+	}
+
+	/**
+	 * Egy további parancs, pl. a mentés, aminek szüksége van a játékon kívüli dolgokra is
+	 * @param command a parancs
+	 */
+	public void addCommand (Command command) {
+		commands.add(command);
+		inputHandler = createInputHandler();
+	}
+
+	/**
+	 * Egy parancs végrehajtása, minden parancs egy lépésnek számít, a hibás is
+	 * @param command a parancs, ';' és ismétlés nélkül
+	 * @return a parancs eredménye
+	 * @throws IllegalStateException ha a játék már véget ért
+	 */
+	public StepOutcome step (String command) {
+		if (getState().isFinished()) {
+			throw new IllegalStateException("A játék már véget ért: " + getState().getName());
+		}
+		steps++;
+		String message = null;
+		var accepted = false;
+		try {
+			message = inputHandler.handleInput(command);
+			accepted = message == null;
+		}
+		catch (NullPointerException e) {
+			log.error("Hiba a parancs feldolgozásakor: {}", e);
+		}
+		catch (RuntimeException e) {
+			message = e.getMessage();
+		}
+		return new StepOutcome(getState(), steps, accepted, message);
+	}
+
+	/**
+	 * A játék állapota
+	 * A hős halála előbb számít, mint a győzelem, és mindkettő előbb, mint a feladás
+	 */
+	public GameState getState () {
+		if (!hero.isAlive()) {
+			return GameState.Died;
+		}
+		if (hero.hasItem(Items.Gold) && hero.getPosition().equals(level.getStartPoint())) {
+			return GameState.Won;
+		}
+		return gaveUp ? GameState.GaveUp : GameState.Running;
+	}
+
+	/**
+	 * A játékos feladja a játékot
+	 */
+	public void giveUp () {
+		gaveUp = true;
+	}
+
+	public Level getLevel () {
+		return level;
+	}
+
+	public Hero getHero () {
+		return hero;
+	}
+
+	public int getSteps () {
+		return steps;
+	}
+
+	/**
+	 * A lépések számának beállítása, egy korábbi játékmenet folytatásakor
+	 * @param steps az eddig megtett lépések száma
+	 */
+	public void setSteps (int steps) {
+		this.steps = steps;
+	}
+
+	/**
+	 * Az ismeretlen parancs kivételt dob, a szintaktikai hibák üzenetét pedig a handleInput() adja vissza,
+	 * így semmi nem kerül a konzolra
+	 */
+	private InputHandler createInputHandler () {
+		return new InputHandler(commands, new UnknownCommand());
+	}
+
+	/**
+	 * Az InputHandler, amivel a parancsok a step() előtt szétbonthatók
+	 */
+	public InputHandler getInputHandler () {
+		return inputHandler;
+	}
+}
@@ -1,7 +1,10 @@
 package hu.nye.pandragon.wumpus.service.game;
 
 import hu.nye.pandragon.wumpus.model.Directions;
+import hu.nye.pandragon.wumpus.model.Entities;
 import hu.nye.pandragon.wumpus.model.LevelVO;
+import hu.nye.pandragon.wumpus.model.Position;
+import hu.nye.pandragon.wumpus.model.WallShape;
 import hu.nye.pandragon.wumpus.model.entities.Entity;
 import hu.nye.pandragon.wumpus.model.entities.Hero;
 import hu.nye.pandragon.wumpus.model.entities.LivingEntity;
@@ -12,13 +15,11 @@ import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.awt.*;
-import java.util.List;
 import java.util.*;
 
 /**
  * Ez az osztály egy játékpályát ír le, és ad lehetőséget a szerkesztésére
- * Azért van egyben a kettő, mert a pálya minden elemét egy Map tartalmazza benne
+ * Azért van egyben a kettő, mert a pálya minden elemét egy LevelGrid tartalmazza benne
  */
 public class Level {
 
@@ -35,79 +36,166 @@ public class Level {
 	@Getter
 	private int maxWumpus;
 	/**
-	 * Ez a map tartalmazza a pályaelemeket és az elhelyezkedésüket
-	 * koordináta -> pályaelem
+	 * Ez tartalmazza a pályaelemeket és a lényeket cellánként,
+	 * a pozíció alapján egy tömbolvasással elérhetőek
 	 */
-	private final Map<Point, Entity> staticEntites;
+	private final LevelGrid grid;
 	/**
 	 * A játékos kiindulóhelye
 	 */
-	private final Point startpoint;
-	private final Map<Point, LivingEntity> livingEntities;
+	private Position startpoint;
 	@Getter
 	@Setter
 	private boolean editing;
+	/**
+	 * Minden módosításkor nő, így ha két lekérdezés között nem változott, akkor a pálya sem
+	 */
+	private long modificationStamp;
+	private final List<LevelListener> listeners = new ArrayList<>();
 
 	public Level(int size) {
 		this.size = size;
 		this.editing = false;
-		livingEntities = new HashMap<>();
-		staticEntites = new HashMap<>();
-		for (int i = 1; i <= size; i++) {
-			placeEntity(1, i, new Wall());
-			placeEntity(size, i, new Wall());
-			placeEntity(i, 1, new Wall());
-			placeEntity(i, size, new Wall());
-		}
-		startpoint = new Point(0, 0);
+		grid = new LevelGrid(size);
+		placeBorderWalls();
+		startpoint = Position.NONE;
 		determineMaxWumpus();
 	}
 
 	public Level (LevelVO levelVO) {
 		size = levelVO.getSize();
-		staticEntites = levelVO.getStaticEntities();
-		livingEntities = levelVO.getLivingEntities();
+		grid = new LevelGrid(levelVO.getStaticEntityGrid());
+		for (Map.Entry<Position, LivingEntity> e : levelVO.getLivingEntities().entrySet()) {
+			var entity = e.getValue();
+			entity.setPosition(e.getKey());
+			grid.putLiving(e.getKey().x(), e.getKey().y(), entity);
+		}
 		startpoint = levelVO.getStartpoint();
 		determineMaxWumpus();
 		alignWalls();
 	}
 
+	/**
+	 * A pálya szélére falakat tesz, majd csak a szélső cellák falait igazítja
+	 * Nem a placeEntity()-t használja, mert az nagy pályán cellánként naplózna és igazítana
+	 */
+	private void placeBorderWalls () {
+		for (int i = 1; i <= size; i++) {
+			grid.putStatic(1, i, Entities.Wall.createNewInstance());
+			grid.putStatic(size, i, Entities.Wall.createNewInstance());
+			grid.putStatic(i, 1, Entities.Wall.createNewInstance());
+			grid.putStatic(i, size, Entities.Wall.createNewInstance());
+		}
+		for (int i = 1; i <= size; i++) {
+			alignWall(1, i);
+			alignWall(size, i);
+			alignWall(i, 1);
+			alignWall(i, size);
+		}
+		LOGGER.debug("Pálya szélének falai elkészültek, méret: {}", size);
+	}
+
 	/**
 	 * LevelVO objektum létrehozása a pálya adataival
+	 * A statikus pályaelemeken a LevelVO osztozik a pályával,
+	 * csak a legutóbbi pillanatkép óta megváltozott sorok lesznek újak benne,
+	 * a lényekről pedig másolat készül, sorfolytonos sorrendben
 	 * @return a LevelVO objektum
 	 */
 	public LevelVO toLevelVO (int steps) {
-		return new LevelVO(staticEntites, livingEntities, size, startpoint, steps);
+		var cells = getLivingCells();
+		var livingEntities = new LinkedHashMap<Position, LivingEntity>();
+		for (int i : cells) {
+			livingEntities.put(new Position(grid.getX(i), grid.getY(i)), grid.getLiving(i));
+		}
+		return new LevelVO(grid.snapshotStatics(), livingEntities, size, startpoint, steps);
+	}
+
+	/**
+	 * A lények cellái sorfolytonos sorrendben
+	 * @return a cellák indexei
+	 */
+	private int[] getLivingCells () {
+		var index = grid.getIndex();
+		var cells = new int[index.getLivingCount()];
+		for (int n = 0; n < cells.length; n++) {
+			cells[n] = index.getLivingCell(n);
+		}
+		Arrays.sort(cells);
+		return cells;
+	}
+
+	/**
+	 * A statikus pályaelemek változásának számlálója
+	 * Ha két lekérdezés között nem változott, akkor a statikus pályaelemek is ugyanazok,
+	 * így az ezekből készült rajzot nem kell újra elkészíteni
+	 * @return a számláló jelenlegi értéke
+	 */
+	public int getStaticVersion () {
+		return grid.getStaticVersion();
+	}
+
+	/**
+	 * A pályán lévő lények száma, a getNthLivingEntity()-vel együtt
+	 * másolat nélkül be lehet járni velük a lényeket
+	 * @return a lények száma
+	 */
+	public int getLivingEntityCount () {
+		return grid.getIndex().getLivingCount();
+	}
+
+	/**
+	 * Az n-edik lény, a sorrend nem állandó, a pálya módosításakor megváltozhat
+	 * @param n 0 és getLivingEntityCount() - 1 közötti szám
+	 * @return a lény
+	 */
+	public LivingEntity getNthLivingEntity (int n) {
+		return grid.getIndex().getLiving(n);
 	}
 
 	public LevelVO toLevelVO () {
 		return toLevelVO(0);
 	}
 
-	private <V extends Entity> Entity removeEntityIfExists (Entity entity, Map<Point, V> map) {
+	/**
+	 * Pályaelem eltávolítása referencia alapján
+	 * Ha a lény a saját pozícióján megtalálható, akkor pontosan azt távolítja el,
+	 * egyébként egy ugyanolyan fajtájú pályaelemet
+	 * @param entity a pályaelem
+	 * @return maga a pályaelem, vagy null, ha nem található
+	 */
+	public Entity removeEntityIfExists (Entity entity) {
 		if (entity == null) {
 			return null;
 		}
-//		var map = living ? livingEntities : staticEntites;
-		var it = map.values().iterator();
-		while (it.hasNext()) {
-			var value = it.next();
-			if (entity.getClass() == value.getClass()) {
-				it.remove();
-				return value;
+		if (entity instanceof LivingEntity e) {
+			var position = e.getPosition();
+			if (grid.getLiving(position.x(), position.y()) == e) {
+				return removeLivingEntity(position.x(), position.y());
 			}
 		}
-		return null;
+		var i = grid.findAny(LevelGrid.getCode(entity) - 1);
+		if (i == -1) {
+			return null;
+		}
+		if (entity instanceof LivingEntity) {
+			return removeLivingEntity(grid.getX(i), grid.getY(i));
+		}
+		return removeStaticEntity(grid.getX(i), grid.getY(i));
 	}
 
 	/**
-	 * Pályaelem eltávolítása referencia alapján
-	 * @param entity a pályaelem
-	 * @return maga a pályaelem, vagy null, ha nem található
+	 * Megkeresi egy ugyanolyan fajtájú pályaelem helyét
+	 * A fajtánkénti nyilvántartásból veszi, így konstans idejű, nem kell a pályán keresni
+	 * @param entity a keresett pályaelem fajtája függ ettől
+	 * @return a pályaelem pozíciója, vagy null, ha nincs ilyen a pályán
 	 */
-	public Entity removeEntityIfExists (Entity entity) {
-		var map = entity instanceof LivingEntity ? livingEntities : staticEntites;
-		return removeEntityIfExists(entity, map);
+	public Position findEntity (Entity entity) {
+		var i = grid.findAny(LevelGrid.getCode(entity) - 1);
+		if (i == -1) {
+			return null;
+		}
+		return new Position(grid.getX(i), grid.getY(i));
 	}
 
 	/**
@@ -116,27 +204,11 @@ public class Level {
 	 * @return az ilyen típusú pályaelemek száma
 	 */
 	public int getEntityCount (Entity entity) {
-		var map = entity instanceof LivingEntity ? livingEntities : staticEntites;
-		return getEntityCount(entity, map);
-	}
-
-	private <V extends Entity> int getEntityCount (Entity entity, Map<Point, V> map) {
-		int count = 0;
-		for (Entity value : map.values()) {
-			if (entity.getClass() == value.getClass()) {
-				count++;
-			}
-		}
-		return count;
+		return grid.getIndex().count(LevelGrid.getCode(entity) - 1);
 	}
 
 	public Hero getHero () {
-		for (LivingEntity e : livingEntities.values()) {
-			if (e instanceof Hero h) {
-				return h;
-			}
-		}
-		return null;
+		return grid.getHero();
 	}
 
 	/**
@@ -147,7 +219,8 @@ public class Level {
 	 */
 	public List<EntityController> getEntityControllers () {
 		var controllers = new ArrayList<EntityController>();
-		for (LivingEntity e : livingEntities.values()) {
+		for (int i : getLivingCells()) {
+			var e = grid.getLiving(i);
 			if (!(e instanceof Hero)) {
 				controllers.add(new EntityController(this, e));
 			}
@@ -155,20 +228,19 @@ public class Level {
 		return controllers;
 	}
 
-	public Point getStartPoint () {
-		return new Point(startpoint);
+	public Position getStartPoint () {
+		return startpoint;
 	}
 
 	/**
 	 * Ez a metódus megkeresi és beállítja a kezdőhely pontját
 	 * Ez azért kell, hogy tudjuk, hová kell visszavinnie a hősnek az aranyat
-	 * A hős pozíciója a kezdőhely, és nem hoz létre hozzá új Point objektumot
+	 * A hős pozíciója a kezdőhely, ezt a Position példányt közvetlenül át lehet venni, mert nem módosítható
 	 */
 	private void determineStartPoint () {
 		var hero = getHero();
 		if (hero != null) {
-			var position = hero.getPosition();
-			startpoint.setLocation(position.x, position.y);
+			startpoint = hero.getPosition();
 		}
 	}
 
@@ -195,35 +267,78 @@ public class Level {
 	 * @param position a körüljárandó pozíció
 	 * @return a szomszédos járható pozíciók
 	 */
-	public Map<Directions, Point> getPossibleMoves (Point position) {
-		var possibleDirections = new EnumMap<Directions, Point>(Directions.class);
-		var checkingPoint = new Point(position.x, position.y);
-		checkingPoint.y--;
-		var entity = staticEntites.get(checkingPoint);
-		if (entity == null || !entity.isBlocking()) {
-			possibleDirections.put(Directions.North, new Point(checkingPoint.x, checkingPoint.y));
-		}
-		checkingPoint.y++;
-		checkingPoint.x++;
-		entity = staticEntites.get(checkingPoint);
-		if (entity == null || !entity.isBlocking()) {
-			possibleDirections.put(Directions.East, new Point(checkingPoint.x, checkingPoint.y));
-		}
-		checkingPoint.x--;
-		checkingPoint.y++;
-		entity = staticEntites.get(checkingPoint);
-		if (entity == null || !entity.isBlocking()) {
-			possibleDirections.put(Directions.South, new Point(checkingPoint.x, checkingPoint.y));
-		}
-		checkingPoint.y--;
-		checkingPoint.x--;
-		entity = staticEntites.get(checkingPoint);
-		if (entity == null || !entity.isBlocking()) {
-			possibleDirections.put(Directions.West, new Point(checkingPoint.x, checkingPoint.y));
+	public Map<Directions, Position> getPossibleMoves (Position position) {
+		var possibleDirections = new EnumMap<Directions, Position>(Directions.class);
+		var moves = getPossibleMovesMask(position.x(), position.y());
+		for (Directions direction : Directions.values()) {
+			if ((moves & direction.getMask()) != 0) {
+				possibleDirections.put(direction, new Position(position.x() + direction.getDx(), position.y() + direction.getDy()));
+			}
 		}
 		return possibleDirections;
 	}
 
+	/**
+	 * Ugyanaz, mint a getPossibleMoves(), csak nem hoz létre semmilyen objektumot
+	 * A járható irányokat egy maszkban adja vissza, amiben az irányok bitjei
+	 * a Directions.getMask() értékei
+	 * @param x oszlop
+	 * @param y sor
+	 * @return a járható irányok maszkja, vagy 0, ha a pozíció nincs a pályán
+	 */
+	public int getPossibleMovesMask (int x, int y) {
+		if (!grid.contains(x, y)) {
+			return 0;
+		}
+		return ~grid.getBlockedNeighbours(x, y) & LevelBitboards.ALL_DIRECTIONS;
+	}
+
+	/**
+	 * Léphet-e egy lény az adott pozícióból az adott irányba
+	 * @param x oszlop
+	 * @param y sor
+	 * @param direction az irány
+	 * @return true, ha abban az irányban nincs blokkoló pályaelem
+	 */
+	public boolean canMove (int x, int y, Directions direction) {
+		return (getPossibleMovesMask(x, y) & direction.getMask()) != 0;
+	}
+
+	/**
+	 * Visszaadja az adott pozíción lévő statikus pályaelemet
+	 * A pályaelemet nem másolja le, csak olvasásra való
+	 * @param x oszlop
+	 * @param y sor
+	 * @return a pályaelem, vagy null, ha nincs ott semmi
+	 */
+	public Entity getStaticEntity (int x, int y) {
+		return grid.getStatic(x, y);
+	}
+
+	/**
+	 * Visszaadja az adott pozíción lévő lényt
+	 * A lényt nem másolja le, csak olvasásra való
+	 * @param x oszlop
+	 * @param y sor
+	 * @return a lény, vagy null, ha nincs ott lény
+	 */
+	public LivingEntity getLivingEntity (int x, int y) {
+		return grid.getLiving(x, y);
+	}
+
+	/**
+	 * Visszaadja az adott pozíción lévő pályaelemet
+	 * Ha van ott lény, akkor azt, különben a statikus pályaelemet
+	 * Nem másol semmit, így egy lépésnél olcsón meg lehet nézni vele a következő cellát
+	 * @param x oszlop
+	 * @param y sor
+	 * @return a pályaelem, vagy null, ha a cella üres vagy nincs a pályán
+	 */
+	public Entity getEntityAt (int x, int y) {
+		Entity entity = grid.getLiving(x, y);
+		return entity != null ? entity : grid.getStatic(x, y);
+	}
+
 	/**
 	 * Új pályaelem hozzáadása
 	 * Lehet statikus (pl. fal) és lény is
@@ -246,24 +361,64 @@ public class Level {
 		}
 		if (entity instanceof LivingEntity e) {
 			e.setPosition(x, y);
-			livingEntities.put(e.getPosition(), e);
-			LOGGER.debug("add living entity: entities: " + livingEntities);
-			if (entity instanceof Hero && (startpoint.x == 0 || editing)) {
+			grid.putLiving(x, y, e);
+			LOGGER.debug("add living entity: {}", e);
+			if (entity instanceof Hero && (startpoint.x() == 0 || editing)) {
 				determineStartPoint();
 			}
 		}
 		else {
-			staticEntites.put(new Point(x, y), entity);
-			alignWalls();
+			grid.putStatic(x, y, entity);
+			alignWallsAround(x, y);
+		}
+		modificationStamp++;
+		if (!listeners.isEmpty()) {
+			fire(new LevelEvent.Placed(modificationStamp, entity, new Position(x, y)));
+		}
+	}
+
+	/**
+	 * Egy pályán lévő lény átléptetése egy másik cellára
+	 * A kiindulási hely nem változik vele
+	 * @param entity a lény
+	 * @param x az új oszlop
+	 * @param y az új sor
+	 */
+	public void moveEntity (LivingEntity entity, int x, int y) {
+		var from = entity.getPosition();
+		if (grid.getLiving(from.x(), from.y()) == entity) {
+			grid.removeLiving(from.x(), from.y());
+		}
+		entity.setPosition(x, y);
+		grid.putLiving(x, y, entity);
+		modificationStamp++;
+		if (!listeners.isEmpty()) {
+			fire(new LevelEvent.Moved(modificationStamp, entity, from, entity.getPosition()));
+		}
+	}
+
+	/**
+	 * Egy meghalt lény levétele a pályáról, ezt a LivingEntity.kill() hívja
+	 * @param entity a lény
+	 */
+	public void removeKilledEntity (LivingEntity entity) {
+		var position = entity.getPosition();
+		if (grid.getLiving(position.x(), position.y()) != entity) {
+			return;
+		}
+		grid.removeLiving(position.x(), position.y());
+		modificationStamp++;
+		if (!listeners.isEmpty()) {
+			fire(new LevelEvent.Killed(modificationStamp, entity, position));
 		}
 	}
 
-	public Entity removeLivingEntity (Point position) {
-		return livingEntities.remove(position);
+	public Entity removeLivingEntity (Position position) {
+		return removeLivingEntity(position.x(), position.y());
 	}
 
-	public Entity removeStaticEntity (Point position) {
-			return staticEntites.remove(position);
+	public Entity removeStaticEntity (Position position) {
+		return removeStaticEntity(position.x(), position.y());
 	}
 
 	/**
@@ -273,14 +428,37 @@ public class Level {
 	 * @return az eltávolított pályaelem, vagy null, ha üres
 	 */
 	public Entity removeLivingEntity (int x, int y) {
-		return removeLivingEntity(new Point(x, y));
+		var entity = grid.removeLiving(x, y);
+		if (entity != null) {
+			removed(entity, x, y);
+		}
+		return entity;
 	}
 
+	/**
+	 * Eltávolít egy statikus pályaelemet a pozíciója alapján,
+	 * és a szomszédos falakat igazítja a megváltozott környezetükhöz
+	 * @param x x koordináta (oszlop)
+	 * @param y y koordináta (sor)
+	 * @return az eltávolított pályaelem, vagy null, ha üres
+	 */
 	public Entity removeStaticEntity (int x, int y) {
-		return removeStaticEntity(new Point(x, y));
+		var entity = grid.removeStatic(x, y);
+		if (entity != null) {
+			alignWallsAround(x, y);
+			removed(entity, x, y);
+		}
+		return entity;
 	}
 
-	public Entity getFirstEntityInDirection (Point from, Directions direction) {
+	private void removed (Entity entity, int x, int y) {
+		modificationStamp++;
+		if (!listeners.isEmpty()) {
+			fire(new LevelEvent.Removed(modificationStamp, entity, new Position(x, y)));
+		}
+	}
+
+	public Entity getFirstEntityInDirection (Position from, Directions direction) {
 		return getFirstEntityInDirection(from, direction, false);
 	}
 
@@ -289,38 +467,141 @@ public class Level {
 	 * @param from a kiindulási pont
 	 * @param direction az irány
 	 * @param goesThroughNonBlocking ha true, akkor az első blokkoló pályaelemig megy, pl. egy falig
-	 * @return az első pályaelem a fenti paraméterek alapján
-	 */
-	public Entity getFirstEntityInDirection (Point from, Directions direction, boolean goesThroughNonBlocking) {
-		Entity entity = null;
-		var point = new Point(from.x, from.y);
-		int dx = 0, dy = 0;
-		switch (direction) {
-			case North: dy = -1; break;
-			case East: dx = 1; break;
-			case South: dy = 1; break;
-			case West: dx = -1; break;
-		}
-		while (entity == null || entity instanceof StaticEntity && goesThroughNonBlocking && !entity.isBlocking()) {
-			point.x += dx;
-			point.y += dy;
-			entity = livingEntities.get(point);
+	 * @return az első pályaelem a fenti paraméterek alapján, vagy null, ha kiért a pályáról
+	 */
+	public Entity getFirstEntityInDirection (Position from, Directions direction, boolean goesThroughNonBlocking) {
+		if (!grid.contains(from.x(), from.y())) {
+			return null;
+		}
+		var bitboards = grid.getBitboards();
+		var index = grid.index(from.x(), from.y());
+		while (true) {
+			index = bitboards.firstOccupied(index, direction);
+			if (index == -1) {
+				return null;
+			}
+			Entity entity = grid.getLiving(index);
 			if (entity == null) {
-				entity = staticEntites.get(point);
+				entity = grid.getStatic(index);
+			}
+			if (!(entity instanceof StaticEntity && goesThroughNonBlocking && !entity.isBlocking())) {
+				return entity;
 			}
 		}
-		return entity;
 	}
 
+	/**
+	 * Az összes fal formájának igazítása a szomszédaikhoz
+	 * Egyszer végigmegy a pályán, ez a pálya betöltésekor kell
+	 */
 	private void alignWalls () {
-		for (Map.Entry<Point, Entity> e : staticEntites.entrySet()) {
-			if (e.getValue() instanceof Wall w) {
-				w.fitShape(staticEntites, e.getKey());
+		for (int i = 0; i < grid.getCellCount(); i++) {
+			alignWall(grid.getX(i), grid.getY(i));
+		}
+	}
+
+	/**
+	 * Egy cella megváltozása után csak ennek a cellának és a 4 szomszédjának
+	 * a formája változhat, így elég csak ezeket újraigazítani
+	 * @param x a megváltozott cella oszlopa
+	 * @param y a megváltozott cella sora
+	 */
+	private void alignWallsAround (int x, int y) {
+		alignWall(x, y);
+		alignWall(x, y - 1);
+		alignWall(x + 1, y);
+		alignWall(x, y + 1);
+		alignWall(x - 1, y);
+	}
+
+	/**
+	 * Ha az adott cellán fal van, akkor a formáját a szomszédaihoz igazítja
+	 * A falat nem módosítja, hanem újat tesz a helyére, mert a korábbi pillanatképek is osztozhatnak rajta
+	 * Közös fal helyére a megfelelő formájú közös fal kerül, így ez nem hoz létre új objektumot
+	 * @param x oszlop
+	 * @param y sor
+	 */
+	private void alignWall (int x, int y) {
+		if (grid.getStatic(x, y) instanceof Wall w) {
+			var neighbours = grid.getWallFitNeighbours(x, y);
+			var shape = WallShape.getShape(
+					(neighbours & LevelBitboards.NORTH) != 0,
+					(neighbours & LevelBitboards.EAST) != 0,
+					(neighbours & LevelBitboards.SOUTH) != 0,
+					(neighbours & LevelBitboards.WEST) != 0);
+			if (w.getShape() != shape) {
+				grid.putStatic(x, y, w.withShape(shape));
 			}
 		}
 	}
 
 	public void setStartpoint (int x, int y) {
-		startpoint.setLocation(x, y);
+		var from = startpoint;
+		startpoint = new Position(x, y);
+		modificationStamp++;
+		if (!listeners.isEmpty()) {
+			fire(new LevelEvent.StartpointMoved(modificationStamp, from, startpoint));
+		}
+	}
+
+	/**
+	 * Egy pályán lévő lény elforgatása
+	 * A lény irányát ezen keresztül kell megváltoztatni, hogy a módosítási számláló nőjön
+	 * @param entity a lény
+	 * @param direction az új irány
+	 */
+	public void turnEntity (LivingEntity entity, Directions direction) {
+		var from = entity.getDirection();
+		entity.setDirection(direction);
+		modificationStamp++;
+		if (!listeners.isEmpty()) {
+			fire(new LevelEvent.Turned(modificationStamp, entity, from, direction));
+		}
+	}
+
+	/**
+	 * Jelzi, hogy egy lény állapota, pl. a nyilai vagy a tárgyai megváltoztak
+	 * Ezeket a lény maga tárolja, így a pálya magától nem tud róluk,
+	 * a változtatás után ezt kell meghívni, hogy a módosítási számláló nőjön
+	 * @param entity a lény
+	 */
+	public void entityChanged (LivingEntity entity) {
+		modificationStamp++;
+		if (!listeners.isEmpty()) {
+			fire(new LevelEvent.Changed(modificationStamp, entity, entity.getPosition()));
+		}
+	}
+
+	/**
+	 * A pálya módosítási számlálója, minden változáskor nő, soha nem csökken
+	 * Változásnak számít minden, ami a pálya metódusain keresztül történik: a pályaelemek lerakása,
+	 * levétele, a lények mozgása, fordulása (turnEntity()), halála, állapotuk változása (entityChanged())
+	 * és a kiindulási hely változása, és mindegyikről egy LevelEvent is megy a feliratkozóknak
+	 * Ha két lekérdezés között nem változott, akkor ezek közül semmi nem történt,
+	 * így az erre épülő rajzot, mentést, ellenőrzést nem kell újra elvégezni
+	 * A lények setter-einek közvetlen hívása (pl. setDirection(), setAmmoAmount()) nem növeli,
+	 * ezért a játék és a pályaszerkesztő a fenti metódusokat használja
+	 * @return a számláló jelenlegi értéke
+	 */
+	public long getModificationStamp () {
+		return modificationStamp;
+	}
+
+	/**
+	 * Feliratkozás a pálya változásaira
+	 * @param listener aki az eseményeket kapja
+	 */
+	public void addListener (LevelListener listener) {
+		listeners.add(listener);
+	}
+
+	public void removeListener (LevelListener listener) {
+		listeners.remove(listener);
+	}
+
+	private void fire (LevelEvent event) {
+		for (int i = 0; i < listeners.size(); i++) {
+			listeners.get(i).onLevelEvent(event);
+		}
 	}
 }
@@ -0,0 +1,182 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.Directions;
+import hu.nye.pandragon.wumpus.model.Entities;
+
+/**
+ * Ez az osztály pályaelem-fajtánként egy bittérképet tárol a pályáról
+ * Egy bit egy cellát jelöl, ugyanabban a sorfolytonos sorrendben, ahogy a LevelGrid indexeli őket
+ * A bit akkor 1, ha azon a cellán van ilyen fajtájú pályaelem
+ * A fajta az Entities enum sorszáma, a fajták halmazát pedig egy int maszk írja le,
+ * amiben a fajta sorszámának megfelelő bit van beállítva
+ * Így a szomszédok vizsgálata és egy sor végigpásztázása 64 cellánként egy művelet
+ */
+class LevelBitboards {
+
+	/**
+	 * A szomszédok maszkjában az irányok bitjei, ugyanazok, mint a Directions maszkjai
+	 */
+	static final int NORTH = 1;
+	static final int EAST = 1 << 1;
+	static final int SOUTH = 1 << 2;
+	static final int WEST = 1 << 3;
+	static final int ALL_DIRECTIONS = NORTH | EAST | SOUTH | WEST;
+
+	private final int size;
+	private final long[][] boards;
+
+	LevelBitboards(int size) {
+		this.size = size;
+		var words = (size * size + 63) >>> 6;
+		boards = new long[Entities.values().length][words];
+	}
+
+	/**
+	 * Egy fajta maszkja
+	 * @param kind a pályaelem fajtája
+	 * @return a maszk, amiben csak ez a fajta van benne
+	 */
+	static int maskOf (Entities kind) {
+		return 1 << kind.ordinal();
+	}
+
+	void set (int kind, int index) {
+		boards[kind][index >>> 6] |= 1L << index;
+	}
+
+	void clear (int kind, int index) {
+		boards[kind][index >>> 6] &= ~(1L << index);
+	}
+
+	boolean test (int kind, int index) {
+		return (boards[kind][index >>> 6] & 1L << index) != 0;
+	}
+
+	/**
+	 * Van-e a cellán a megadott fajták közül valamelyik
+	 * @param kinds a fajták maszkja
+	 * @param index a cella indexe
+	 * @return true, ha van
+	 */
+	boolean testAny (int kinds, int index) {
+		return (word(kinds, index >>> 6) & 1L << index) != 0;
+	}
+
+	/**
+	 * Összegyűjti, hogy a cella melyik szomszédján van a megadott fajták közül valamelyik
+	 * @param kinds a fajták maszkja
+	 * @param index a cella indexe
+	 * @param outside a pályán kívüli szomszédokat beállítottnak tekintse-e
+	 * @return a szomszédok maszkja (NORTH, EAST, SOUTH, WEST bitek)
+	 */
+	int neighbourMask (int kinds, int index, boolean outside) {
+		var x = index % size;
+		var mask = 0;
+		if (index >= size ? testAny(kinds, index - size) : outside) {
+			mask |= NORTH;
+		}
+		if (x < size - 1 ? testAny(kinds, index + 1) : outside) {
+			mask |= EAST;
+		}
+		if (index + size < size * size ? testAny(kinds, index + size) : outside) {
+			mask |= SOUTH;
+		}
+		if (x > 0 ? testAny(kinds, index - 1) : outside) {
+			mask |= WEST;
+		}
+		return mask;
+	}
+
+	/**
+	 * Megkeresi az első foglalt cellát a megadott cellától indulva az adott irányban
+	 * Foglalt az a cella, amin bármilyen pályaelem van
+	 * Vízszintesen szavanként halad, függőlegesen soronként egy bitet vizsgál
+	 * @param index a kiinduló cella, ez nem számít bele a keresésbe
+	 * @param direction az irány
+	 * @return a talált cella indexe, vagy -1, ha a pálya széléig nincs ilyen
+	 */
+	int firstOccupied (int index, Directions direction) {
+		var all = (1 << boards.length) - 1;
+		var rowStart = index - index % size;
+		switch (direction) {
+			case East:
+				return nextSetBit(all, index + 1, rowStart + size);
+			case West:
+				return previousSetBit(all, index - 1, rowStart);
+			case North:
+				for (int i = index - size; i >= 0; i -= size) {
+					if (testAny(all, i)) {
+						return i;
+					}
+				}
+				return -1;
+			case South:
+				for (int i = index + size; i < size * size; i += size) {
+					if (testAny(all, i)) {
+						return i;
+					}
+				}
+				return -1;
+			default:
+				return -1;
+		}
+	}
+
+	/**
+	 * Az első beállított bit a [from, to) tartományban
+	 * @param kinds a fajták maszkja
+	 */
+	int nextSetBit (int kinds, int from, int to) {
+		if (from >= to) {
+			return -1;
+		}
+		var w = from >>> 6;
+		var word = word(kinds, w) & -1L << from;
+		while (true) {
+			if (word != 0) {
+				var bit = (w << 6) + Long.numberOfTrailingZeros(word);
+				return bit < to ? bit : -1;
+			}
+			w++;
+			if (w << 6 >= to) {
+				return -1;
+			}
+			word = word(kinds, w);
+		}
+	}
+
+	/**
+	 * Az utolsó beállított bit a [to, from] tartományban, from-tól visszafelé haladva
+	 */
+	private int previousSetBit (int kinds, int from, int to) {
+		if (from < to) {
+			return -1;
+		}
+		var w = from >>> 6;
+		var word = word(kinds, w) & -1L >>> (63 - (from & 63));
+		while (true) {
+			if (word != 0) {
+				var bit = (w << 6) + 63 - Long.numberOfLeadingZeros(word);
+				return bit >= to ? bit : -1;
+			}
+			if (w == 0 || (w << 6) <= to) {
+				return -1;
+			}
+			w--;
+			word = word(kinds, w);
+		}
+	}
+
+	/**
+	 * A megadott fajták bittérképeinek egy szava összevagyolva
+	 */
+	private long word (int kinds, int w) {
+		long word = 0;
+		for (int kind = 0; kinds != 0; kind++, kinds >>>= 1) {
+			if ((kinds & 1) != 0) {
+				word |= boards[kind][w];
+			}
+		}
+		return word;
+	}
+}
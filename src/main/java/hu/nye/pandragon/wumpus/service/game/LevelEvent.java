@@ -0,0 +1,83 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.Directions;
+import hu.nye.pandragon.wumpus.model.Position;
+import hu.nye.pandragon.wumpus.model.entities.Entity;
+import hu.nye.pandragon.wumpus.model.entities.LivingEntity;
+
+/**
+ * A pálya egy változása, ezeket kapják meg a LevelListener-ek
+ * Mindegyikben benne van a pálya módosítási számlálójának értéke a változás után
+ */
+public sealed interface LevelEvent {
+
+	/**
+	 * A pálya módosítási számlálója a változás után
+	 */
+	long stamp();
+
+	/**
+	 * Egy pályaelem a pályára került
+	 * @param stamp a módosítási számláló
+	 * @param entity a pályaelem
+	 * @param position ahová került
+	 */
+	record Placed(long stamp, Entity entity, Position position) implements LevelEvent {
+	}
+
+	/**
+	 * Egy pályaelem lekerült a pályáról
+	 * @param stamp a módosítási számláló
+	 * @param entity a pályaelem
+	 * @param position ahonnan lekerült
+	 */
+	record Removed(long stamp, Entity entity, Position position) implements LevelEvent {
+	}
+
+	/**
+	 * Egy lény átlépett egy másik cellára
+	 * @param stamp a módosítási számláló
+	 * @param entity a lény
+	 * @param from ahonnan elindult
+	 * @param to ahová megérkezett
+	 */
+	record Moved(long stamp, LivingEntity entity, Position from, Position to) implements LevelEvent {
+	}
+
+	/**
+	 * Egy lény meghalt, és lekerült a pályáról
+	 * @param stamp a módosítási számláló
+	 * @param entity a lény
+	 * @param position ahol meghalt
+	 */
+	record Killed(long stamp, LivingEntity entity, Position position) implements LevelEvent {
+	}
+
+	/**
+	 * Egy lény elfordult
+	 * @param stamp a módosítási számláló
+	 * @param entity a lény
+	 * @param from amerre eddig nézett
+	 * @param to amerre most néz
+	 */
+	record Turned(long stamp, LivingEntity entity, Directions from, Directions to) implements LevelEvent {
+	}
+
+	/**
+	 * Egy lény állapota, pl. a nyilai vagy a tárgyai megváltoztak, a helye nem
+	 * @param stamp a módosítási számláló
+	 * @param entity a lény
+	 * @param position ahol a lény van
+	 */
+	record Changed(long stamp, LivingEntity entity, Position position) implements LevelEvent {
+	}
+
+	/**
+	 * A kiindulási hely megváltozott
+	 * @param stamp a módosítási számláló
+	 * @param from az előző kiindulási hely
+	 * @param to az új kiindulási hely
+	 */
+	record StartpointMoved(long stamp, Position from, Position to) implements LevelEvent {
+	}
+}
@@ -0,0 +1,331 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.Entities;
+import hu.nye.pandragon.wumpus.model.PersistentGrid;
+import hu.nye.pandragon.wumpus.model.entities.Entity;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.LivingEntity;
+import hu.nye.pandragon.wumpus.service.traits.WallsFitTo;
+
+/**
+ * Ez az osztály a pálya celláit tárolja sorfolytonos tömbökben
+ * Egy cella indexe y * size + x, ahol x és y 0-tól számozott koordináták,
+ * a pálya koordinátái viszont 1-től indulnak, ezt az index() metódus váltja át
+ * A cellák tartalma:
+ *  - a statikus pályaelemek kódja (0 = üres cella), ebből gyorsan eldönthető pl. hogy blokkol-e
+ *  - a statikus pályaelemek példányai, mert a pálya ezeket adja vissza,
+ *    ezek egy PersistentGrid soraiban vannak, így egy pillanatkép csak a megváltozott sorokat másolja
+ *  - a lények, ezekből kevés van, ezért nem cellánként, hanem a LevelIndex fajtánkénti tömbjeiben vannak,
+ *    a cellájuk szerint konstans időben megkereshetők
+ * Így egy cella lekérdezése egy tömbolvasás, nem kell hozzá Position objektum és hash,
+ * és a pálya cellánként csak néhány bájtot foglal, ezért nagy (akár 4096x4096-os) pálya is elfér
+ * Minden módosítás a fajtánkénti bittérképeket (LevelBitboards)
+ * és a fajtánkénti cellákat (LevelIndex) is frissíti,
+ * a hősre pedig külön hivatkozást tart, mert abból csak egy lehet
+ */
+class LevelGrid {
+
+	/**
+	 * Az üres cella kódja
+	 */
+	static final byte EMPTY = 0;
+
+	/**
+	 * A pályaelem-fajták kódjához tartozó blokkolás
+	 * A kód az Entities enum értékének sorszáma + 1
+	 */
+	private static final boolean[] BLOCKING;
+	/**
+	 * A blokkoló fajták maszkja a bittérképekhez
+	 */
+	private static final int BLOCKING_KINDS;
+	/**
+	 * Azoknak a fajtáknak a maszkja, amelyekhez a falak igazodnak
+	 */
+	private static final int WALL_FIT_KINDS;
+	/**
+	 * A lény fajták maszkja
+	 */
+	private static final int LIVING_KINDS;
+
+	static {
+		var values = Entities.values();
+		BLOCKING = new boolean[values.length + 1];
+		int blockingKinds = 0, wallFitKinds = 0, livingKinds = 0;
+		for (Entities e : values) {
+			BLOCKING[e.ordinal() + 1] = e.getEntity().isBlocking();
+			if (e.getEntity().isBlocking()) {
+				blockingKinds |= LevelBitboards.maskOf(e);
+			}
+			if (e.getEntity() instanceof WallsFitTo) {
+				wallFitKinds |= LevelBitboards.maskOf(e);
+			}
+			if (e.getEntity() instanceof LivingEntity) {
+				livingKinds |= LevelBitboards.maskOf(e);
+			}
+		}
+		BLOCKING_KINDS = blockingKinds;
+		WALL_FIT_KINDS = wallFitKinds;
+		LIVING_KINDS = livingKinds;
+	}
+
+	private final int size;
+	private final byte[] staticCodes;
+	private final PersistentGrid.Builder<Entity> staticEntities;
+	private final LevelBitboards bitboards;
+	private final LevelIndex index;
+	private Hero hero;
+	/**
+	 * Minden statikus módosításkor nő, ebből látszik, ha a statikus pályaelemek megváltoztak
+	 */
+	private int staticVersion;
+
+	LevelGrid(int size) {
+		this(new PersistentGrid<>(size));
+	}
+
+	/**
+	 * A statikus pályaelemeket egy pillanatképből veszi át, a sorait nem másolja le
+	 * @param statics a statikus pályaelemek
+	 */
+	LevelGrid(PersistentGrid<Entity> statics) {
+		this.size = statics.getSize();
+		staticCodes = new byte[size * size];
+		staticEntities = statics.toBuilder();
+		bitboards = new LevelBitboards(size);
+		index = new LevelIndex();
+		for (int i = 0; i < staticCodes.length; i++) {
+			var entity = getStatic(i);
+			if (entity != null) {
+				var code = getCode(entity);
+				staticCodes[i] = code;
+				bitboards.set(code - 1, i);
+				this.index.add(code - 1, i);
+			}
+		}
+	}
+
+	/**
+	 * Pillanatkép a statikus pályaelemekről
+	 * Csak a legutóbbi pillanatkép óta megváltozott sorok kerülnek bele újként
+	 * @return a nem módosítható pillanatkép
+	 */
+	PersistentGrid<Entity> snapshotStatics () {
+		return staticEntities.build();
+	}
+
+	/**
+	 * Visszaadja egy pályaelem kódját
+	 * @param entity a pályaelem
+	 * @return a kódja, ami az Entities enum sorszáma + 1
+	 */
+	static byte getCode (Entity entity) {
+		var e = Entities.parseSymbol(entity.getCompatibilitySymbol());
+		if (e == null) {
+			throw new IllegalArgumentException("Ismeretlen pályaelem: " + entity.getName());
+		}
+		return (byte) (e.ordinal() + 1);
+	}
+
+	int getSize () {
+		return size;
+	}
+
+	int getStaticVersion () {
+		return staticVersion;
+	}
+
+	/**
+	 * Rajta van-e a pályán a megadott pozíció
+	 * @param x oszlop (1-től)
+	 * @param y sor (1-től)
+	 * @return true, ha a pályán belül van
+	 */
+	boolean contains (int x, int y) {
+		return x >= 1 && y >= 1 && x <= size && y <= size;
+	}
+
+	/**
+	 * A pálya koordinátáiból kiszámolja a cella indexét
+	 * @param x oszlop (1-től)
+	 * @param y sor (1-től)
+	 * @return a cella indexe a tömbökben
+	 */
+	int index (int x, int y) {
+		return (y - 1) * size + (x - 1);
+	}
+
+	int getX (int index) {
+		return index % size + 1;
+	}
+
+	int getY (int index) {
+		return index / size + 1;
+	}
+
+	int getCellCount () {
+		return staticCodes.length;
+	}
+
+	LevelBitboards getBitboards () {
+		return bitboards;
+	}
+
+	LevelIndex getIndex () {
+		return index;
+	}
+
+	/**
+	 * A pályán lévő hős, ehhez nem kell keresni
+	 * @return a hős, vagy null, ha nincs a pályán
+	 */
+	Hero getHero () {
+		return hero;
+	}
+
+	/**
+	 * Összegyűjti, melyik szomszédos cellára nem lehet lépni
+	 * A pályán kívüli szomszédok is blokkolnak
+	 * @param x oszlop (1-től)
+	 * @param y sor (1-től)
+	 * @return a blokkolt szomszédok maszkja (LevelBitboards.NORTH, EAST, SOUTH, WEST)
+	 */
+	int getBlockedNeighbours (int x, int y) {
+		return bitboards.neighbourMask(BLOCKING_KINDS, index(x, y), true);
+	}
+
+	/**
+	 * Összegyűjti, melyik szomszédos cellán van olyan pályaelem, amihez a falak igazodnak
+	 * @param x oszlop (1-től)
+	 * @param y sor (1-től)
+	 * @return a szomszédok maszkja (LevelBitboards.NORTH, EAST, SOUTH, WEST)
+	 */
+	int getWallFitNeighbours (int x, int y) {
+		return bitboards.neighbourMask(WALL_FIT_KINDS, index(x, y), false);
+	}
+
+	private int checkedIndex (int x, int y) {
+		if (!contains(x, y)) {
+			throw new IllegalArgumentException(String.format("A pozíció kívül esik a pályán: %d %d", x, y));
+		}
+		return index(x, y);
+	}
+
+	Entity getStatic (int x, int y) {
+		return contains(x, y) ? staticEntities.get(x, y) : null;
+	}
+
+	Entity getStatic (int index) {
+		return staticEntities.get(getX(index), getY(index));
+	}
+
+	byte getStaticCode (int index) {
+		return staticCodes[index];
+	}
+
+	LivingEntity getLiving (int x, int y) {
+		return contains(x, y) ? getLiving(index(x, y)) : null;
+	}
+
+	/**
+	 * A cellán lévő lény
+	 * A bittérképekből előbb kiderül, hogy van-e ott lény, csak akkor keresi meg a LevelIndex-ben
+	 * @param index a cella indexe
+	 * @return a lény, vagy null, ha nincs ott lény
+	 */
+	LivingEntity getLiving (int index) {
+		if (!bitboards.testAny(LIVING_KINDS, index)) {
+			return null;
+		}
+		return this.index.getLivingAt(index);
+	}
+
+	/**
+	 * Egy olyan cella, amin ilyen fajtájú pályaelem van
+	 * A LevelIndex-ből veszi, így konstans idejű, de nem feltétlenül a sorfolytonosan első cellát adja
+	 * @param kind a pályaelem fajtája
+	 * @return a cella indexe, vagy -1, ha nincs ilyen a pályán
+	 */
+	int findAny (int kind) {
+		return index.count(kind) == 0 ? -1 : index.get(kind, 0);
+	}
+
+	/**
+	 * Van-e blokkoló statikus pályaelem az adott pozíción
+	 * A pályán kívüli pozíciók blokkolnak, mert oda nem lehet lépni
+	 * @param x oszlop (1-től)
+	 * @param y sor (1-től)
+	 * @return true, ha nem lehet oda lépni
+	 */
+	boolean isBlocking (int x, int y) {
+		return !contains(x, y) || BLOCKING[staticCodes[index(x, y)]];
+	}
+
+	Entity putStatic (int x, int y, Entity entity) {
+		var i = checkedIndex(x, y);
+		var previous = staticEntities.get(x, y);
+		var code = getCode(entity);
+		clearStatic(i);
+		staticEntities.set(x, y, entity);
+		staticCodes[i] = code;
+		bitboards.set(code - 1, i);
+		index.add(code - 1, i);
+		staticVersion++;
+		return previous;
+	}
+
+	Entity removeStatic (int x, int y) {
+		if (!contains(x, y)) {
+			return null;
+		}
+		var i = index(x, y);
+		var previous = staticEntities.get(x, y);
+		clearStatic(i);
+		staticEntities.set(x, y, null);
+		staticVersion++;
+		return previous;
+	}
+
+	private void clearStatic (int i) {
+		if (staticCodes[i] != EMPTY) {
+			bitboards.clear(staticCodes[i] - 1, i);
+			index.remove(staticCodes[i] - 1, i);
+			staticCodes[i] = EMPTY;
+		}
+	}
+
+	LivingEntity putLiving (int x, int y, LivingEntity entity) {
+		var i = checkedIndex(x, y);
+		var previous = getLiving(i);
+		var code = getCode(entity);
+		clearLiving(i);
+		bitboards.set(code - 1, i);
+		index.addLiving(code - 1, i, entity);
+		if (entity instanceof Hero h) {
+			hero = h;
+		}
+		return previous;
+	}
+
+	LivingEntity removeLiving (int x, int y) {
+		if (!contains(x, y)) {
+			return null;
+		}
+		var i = index(x, y);
+		var previous = getLiving(i);
+		clearLiving(i);
+		return previous;
+	}
+
+	private void clearLiving (int i) {
+		var previous = getLiving(i);
+		if (previous != null) {
+			var code = getCode(previous);
+			bitboards.clear(code - 1, i);
+			index.removeLiving(code - 1, i);
+			if (previous == hero) {
+				hero = null;
+			}
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.Entities;
+import hu.nye.pandragon.wumpus.model.entities.LivingEntity;
+
+import java.util.Arrays;
+
+/**
+ * Ez az osztály pályaelem-fajtánként nyilvántartja, hogy mely cellákon van ilyen fajtájú pályaelem
+ * A fajta az Entities enum sorszáma, a cella pedig a LevelGrid indexe
+ * Fajtánként egy tömörített tömbben vannak a cellák indexei, a lény fajtáknál mellettük a lények is,
+ * és egy CellSlotMap tárolja, hogy a cella hányadik helyen van ebben a tömbben, így a hozzáadás,
+ * az eltávolítás, a darabszám, egy fajta celláinak és egy cella lényének lekérdezése is konstans idejű,
+ * nem függ a pálya méretétől
+ * A CellSlotMap csak a foglalt cellákat tárolja, így nagy pályán sem kell cellánként egy tömbelem
+ * Egy cellán egy statikus pályaelem és egy lény lehet,
+ * ezért a helyeket külön tárolja a statikus és az élő fajtákhoz
+ */
+class LevelIndex {
+
+	/**
+	 * Az egyes fajták lények-e
+	 */
+	private static final boolean[] LIVING;
+	private static final int KINDS;
+
+	static {
+		var values = Entities.values();
+		KINDS = values.length;
+		LIVING = new boolean[KINDS];
+		for (Entities e : values) {
+			LIVING[e.ordinal()] = e.getEntity() instanceof LivingEntity;
+		}
+	}
+
+	private final int[][] cells;
+	/**
+	 * A lény fajtáknál a cellák mellett a lények, a statikus fajtáknál null
+	 */
+	private final LivingEntity[][] livingEntities;
+	private final int[] counts;
+	/**
+	 * Cella -> hely * KINDS + fajta, így egy cella lényéhez a fajtát sem kell keresni
+	 */
+	private final CellSlotMap staticSlots = new CellSlotMap();
+	private final CellSlotMap livingSlots = new CellSlotMap();
+	private int livingCount;
+
+	LevelIndex() {
+		cells = new int[KINDS][4];
+		livingEntities = new LivingEntity[KINDS][];
+		counts = new int[KINDS];
+		for (int kind = 0; kind < KINDS; kind++) {
+			if (LIVING[kind]) {
+				livingEntities[kind] = new LivingEntity[4];
+			}
+		}
+	}
+
+	/**
+	 * Felveszi a cellát a fajta cellái közé
+	 * @param kind a pályaelem fajtája
+	 * @param index a cella indexe
+	 */
+	void add (int kind, int index) {
+		add(kind, index, null);
+	}
+
+	/**
+	 * Felvesz egy lényt a fajtája cellái közé
+	 * @param kind a lény fajtája
+	 * @param index a cella indexe
+	 * @param entity a lény
+	 */
+	void addLiving (int kind, int index, LivingEntity entity) {
+		add(kind, index, entity);
+	}
+
+	private void add (int kind, int index, LivingEntity entity) {
+		var n = counts[kind];
+		if (n == cells[kind].length) {
+			cells[kind] = Arrays.copyOf(cells[kind], n * 2);
+			if (LIVING[kind]) {
+				livingEntities[kind] = Arrays.copyOf(livingEntities[kind], n * 2);
+			}
+		}
+		cells[kind][n] = index;
+		if (LIVING[kind]) {
+			livingEntities[kind][n] = entity;
+			livingCount++;
+		}
+		slots(kind).put(index, n * KINDS + kind);
+		counts[kind]++;
+	}
+
+	/**
+	 * Kiveszi a cellát a fajta cellái közül
+	 * A helyére az utolsó cella kerül, így nem kell a tömböt tologatni
+	 * @param kind a pályaelem fajtája
+	 * @param index a cella indexe
+	 */
+	void remove (int kind, int index) {
+		var slots = slots(kind);
+		var value = slots.get(index);
+		if (value == -1 || value % KINDS != kind) {
+			return;
+		}
+		var slot = value / KINDS;
+		var lastSlot = --counts[kind];
+		var last = cells[kind][lastSlot];
+		cells[kind][slot] = last;
+		if (LIVING[kind]) {
+			livingEntities[kind][slot] = livingEntities[kind][lastSlot];
+			livingEntities[kind][lastSlot] = null;
+			livingCount--;
+		}
+		slots.remove(index);
+		if (last != index) {
+			slots.put(last, slot * KINDS + kind);
+		}
+	}
+
+	/**
+	 * Kiveszi a cellán lévő lényt a fajtája cellái közül
+	 * @param kind a lény fajtája
+	 * @param index a cella indexe
+	 */
+	void removeLiving (int kind, int index) {
+		remove(kind, index);
+	}
+
+	/**
+	 * A cellán lévő lény
+	 * @param index a cella indexe
+	 * @return a lény, vagy null, ha nincs ott lény
+	 */
+	LivingEntity getLivingAt (int index) {
+		var value = livingSlots.get(index);
+		return value == -1 ? null : livingEntities[value % KINDS][value / KINDS];
+	}
+
+	/**
+	 * Hány ilyen fajtájú pályaelem van a pályán
+	 * @param kind a pályaelem fajtája
+	 * @return a darabszám
+	 */
+	int count (int kind) {
+		return counts[kind];
+	}
+
+	/**
+	 * Az ilyen fajtájú pályaelemek közül az n-edik cellája
+	 * A sorrend nem állandó, eltávolításkor megváltozhat
+	 * @param kind a pályaelem fajtája
+	 * @param n 0 és count(kind) - 1 közötti szám
+	 * @return a cella indexe
+	 */
+	int get (int kind, int n) {
+		return cells[kind][n];
+	}
+
+	/**
+	 * A pályán lévő lények száma
+	 */
+	int getLivingCount () {
+		return livingCount;
+	}
+
+	/**
+	 * Az n-edik lény cellája, a lény fajták sorrendjében
+	 * A sorrend nem állandó, eltávolításkor megváltozhat
+	 * @param n 0 és getLivingCount() - 1 közötti szám
+	 * @return a cella indexe
+	 */
+	int getLivingCell (int n) {
+		for (int kind = 0; kind < KINDS; kind++) {
+			if (LIVING[kind]) {
+				if (n < counts[kind]) {
+					return cells[kind][n];
+				}
+				n -= counts[kind];
+			}
+		}
+		throw new IndexOutOfBoundsException(n);
+	}
+
+	/**
+	 * Az n-edik lény, ugyanabban a sorrendben, mint a getLivingCell()
+	 * @param n 0 és getLivingCount() - 1 közötti szám
+	 * @return a lény
+	 */
+	LivingEntity getLiving (int n) {
+		for (int kind = 0; kind < KINDS; kind++) {
+			if (LIVING[kind]) {
+				if (n < counts[kind]) {
+					return livingEntities[kind][n];
+				}
+				n -= counts[kind];
+			}
+		}
+		throw new IndexOutOfBoundsException(n);
+	}
+
+	private CellSlotMap slots (int kind) {
+		return LIVING[kind] ? livingSlots : staticSlots;
+	}
+}
@@ -0,0 +1,13 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+/**
+ * A pálya változásairól értesül, pl. egy kirajzolás, mentés vagy gyorsítótár,
+ * ami csak a változásokat akarja feldolgozni
+ * Az értesítés a változást végző szálon, a változás után azonnal történik,
+ * ezért ebben nem szabad a pályát módosítani
+ */
+@FunctionalInterface
+public interface LevelListener {
+
+	void onLevelEvent (LevelEvent event);
+}
@@ -0,0 +1,275 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.Items;
+import hu.nye.pandragon.wumpus.model.Position;
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static hu.nye.pandragon.wumpus.service.game.LevelBitboards.EAST;
+import static hu.nye.pandragon.wumpus.service.game.LevelBitboards.NORTH;
+import static hu.nye.pandragon.wumpus.service.game.LevelBitboards.SOUTH;
+import static hu.nye.pandragon.wumpus.service.game.LevelBitboards.WEST;
+
+/**
+ * Útkeresés a pályán szélességi kereséssel
+ * A járhatóság ugyanaz, mint a Level.getPossibleMoves() metódusnál: csak a blokkoló pályaelemek, pl. a falak
+ * nem járhatók, a Wumpus és a verem cellájára rá lehet lépni
+ * Az út hossza a lépések száma, a fordulások nem számítanak bele
+ *
+ * A keresés a cellák sorfolytonos indexein fut, cellánként egyetlen int-tel: a marks tömbben
+ * a keresés alapértékének és a cella távolságának összege van
+ * Minden keresés az előzőnél nagyobb alapértékkel indul, így egy cella csak akkor számít bejártnak,
+ * ha az értéke legalább az aktuális alapérték, és a tömböt nem kell minden keresés előtt kinullázni
+ * Az utat a célból visszafelé lépve állítja elő, mindig egy eggyel kisebb távolságú szomszédra,
+ * így a szülőket sem kell tárolni
+ * A sor egy körkörös puffer, ami kicsiként indul, és csak akkor nő, ha a keresés frontja nem fér el benne,
+ * ez egy rácson a pálya oldalhosszával arányos, nem a területével, így egy 4096x4096-os pályán
+ * is csak a marks tömb cellánkénti 4 bájtja kell
+ * Egy keresés költsége csak a bejárt cellák számától függ, és semmilyen objektumot nem hoz létre,
+ * ezért a pályaszerkesztőben akár minden parancs után is futtatható
+ *
+ * Egy példányt egyszerre csak egy szál használhat
+ */
+public class LevelPathfinder {
+
+	private static final Gold GOLD = new Gold();
+
+	/**
+	 * A keresés alapértéke + a cella távolsága a kiinduló cellától,
+	 * az alapértéknél kisebb érték azt jelenti, hogy a cellát ez a keresés nem járta be
+	 */
+	private int[] marks = new int[0];
+	private int base;
+	/**
+	 * Az utolsó keresésben elért legnagyobb érték, a következő keresés alapértéke ennél nagyobb lesz
+	 */
+	private int maxMark;
+	private int[] queue = new int[16];
+	private int queueHead;
+	private int queueSize;
+
+	/**
+	 * Két pozíció közötti legrövidebb út hossza
+	 * @param level a pálya
+	 * @param from a kiinduló pozíció
+	 * @param to a cél
+	 * @return a lépések száma, vagy -1, ha a cél nem érhető el, vagy valamelyik pozíció nincs a pályán
+	 */
+	public int distance (Level level, Position from, Position to) {
+		var target = search(level, from, to, false);
+		return target == -1 ? -1 : marks[target] - base;
+	}
+
+	/**
+	 * Két pozíció közötti legrövidebb út hossza úgy, hogy az út nem megy át élő Wumpus celláján
+	 * Ilyen úton a hős nyilak nélkül is biztonságban eljut a célig
+	 * @param level a pálya
+	 * @param from a kiinduló pozíció
+	 * @param to a cél
+	 * @return a lépések száma, vagy -1, ha a cél így nem érhető el, vagy valamelyik pozíció nincs a pályán
+	 */
+	public int safeDistance (Level level, Position from, Position to) {
+		var target = search(level, from, to, true);
+		return target == -1 ? -1 : marks[target] - base;
+	}
+
+	/**
+	 * Két pozíció közötti egyik legrövidebb út
+	 * @param level a pálya
+	 * @param from a kiinduló pozíció
+	 * @param to a cél
+	 * @return az út pozíciói a kiinduló pozícióval és a céllal együtt, vagy üres lista, ha a cél nem érhető el
+	 */
+	public List<Position> findPath (Level level, Position from, Position to) {
+		var target = search(level, from, to, false);
+		if (target == -1) {
+			return List.of();
+		}
+		var size = level.getSize();
+		var path = new ArrayList<Position>(marks[target] - base + 1);
+		for (int i = target; i != -1; i = previous(level, i, size)) {
+			path.add(new Position(i % size + 1, i / size + 1));
+		}
+		Collections.reverse(path);
+		return path;
+	}
+
+	/**
+	 * A hős és az arany közötti legrövidebb út hossza
+	 * @param level a pálya
+	 * @return a lépések száma, vagy -1, ha nincs hős vagy arany a pályán, vagy nem érhető el
+	 */
+	public int distanceFromHeroToGold (Level level) {
+		var hero = level.getHero();
+		var gold = level.findEntity(GOLD);
+		if (hero == null || gold == null) {
+			return -1;
+		}
+		return distance(level, hero.getPosition(), gold);
+	}
+
+	/**
+	 * Az arany és a kiindulási hely közötti legrövidebb út hossza
+	 * @param level a pálya
+	 * @return a lépések száma, vagy -1, ha nincs arany vagy kiindulási hely a pályán, vagy nem érhető el
+	 */
+	public int distanceFromGoldToStart (Level level) {
+		var gold = level.findEntity(GOLD);
+		if (gold == null) {
+			return -1;
+		}
+		return distance(level, gold, level.getStartPoint());
+	}
+
+	/**
+	 * A teljes út hossza, amivel a hős megnyerheti a játékot: a hőstől az aranyig, onnan a kiindulási helyig
+	 * Ha a hősnél már ott van az arany, akkor csak a kiindulási helyig tartó út számít
+	 * @param level a pálya
+	 * @return a lépések száma, vagy -1, ha az út valamelyik része nem létezik
+	 */
+	public int getRouteLength (Level level) {
+		var hero = level.getHero();
+		if (hero == null) {
+			return -1;
+		}
+		if (hero.hasItem(Items.Gold)) {
+			return distance(level, hero.getPosition(), level.getStartPoint());
+		}
+		var toGold = distanceFromHeroToGold(level);
+		if (toGold == -1) {
+			return -1;
+		}
+		var toStart = distanceFromGoldToStart(level);
+		return toStart == -1 ? -1 : toGold + toStart;
+	}
+
+	/**
+	 * Szélességi keresés, ami a cél elérésekor megáll
+	 * @param avoidingWumpus ha true, akkor a Wumpusok cellái nem járhatók
+	 * @return a cél indexe, vagy -1, ha nem érhető el
+	 */
+	private int search (Level level, Position from, Position to, boolean avoidingWumpus) {
+		var size = level.getSize();
+		if (!isOnLevel(from, size) || !isOnLevel(to, size)) {
+			return -1;
+		}
+		ensureCapacity(size * size);
+		nextBase();
+		var start = (from.y() - 1) * size + from.x() - 1;
+		var target = (to.y() - 1) * size + to.x() - 1;
+		marks[start] = base;
+		queueHead = 0;
+		queueSize = 0;
+		offer(start);
+		while (queueSize > 0) {
+			var i = poll();
+			if (i == target) {
+				return i;
+			}
+			var moves = level.getPossibleMovesMask(i % size + 1, i / size + 1);
+			if ((moves & NORTH) != 0) {
+				visit(level, i, i - size, avoidingWumpus);
+			}
+			if ((moves & EAST) != 0) {
+				visit(level, i, i + 1, avoidingWumpus);
+			}
+			if ((moves & SOUTH) != 0) {
+				visit(level, i, i + size, avoidingWumpus);
+			}
+			if ((moves & WEST) != 0) {
+				visit(level, i, i - 1, avoidingWumpus);
+			}
+		}
+		return -1;
+	}
+
+	private void visit (Level level, int from, int to, boolean avoidingWumpus) {
+		if (marks[to] >= base || avoidingWumpus && isWumpus(level, to, level.getSize())) {
+			return;
+		}
+		var mark = marks[from] + 1;
+		marks[to] = mark;
+		maxMark = Math.max(maxMark, mark);
+		offer(to);
+	}
+
+	/**
+	 * Az úton a cella előtti cella: egy szomszéd, ami eggyel közelebb van a kiinduló cellához,
+	 * és amelyikből át lehet lépni ebbe a cellába
+	 * @return a szomszéd indexe, vagy -1, ha ez a kiinduló cella
+	 */
+	private int previous (Level level, int index, int size) {
+		var mark = marks[index];
+		if (mark == base) {
+			return -1;
+		}
+		int x = index % size + 1, y = index / size + 1;
+		if (y > 1 && marks[index - size] == mark - 1 && (level.getPossibleMovesMask(x, y - 1) & SOUTH) != 0) {
+			return index - size;
+		}
+		if (x < size && marks[index + 1] == mark - 1 && (level.getPossibleMovesMask(x + 1, y) & WEST) != 0) {
+			return index + 1;
+		}
+		if (y < size && marks[index + size] == mark - 1 && (level.getPossibleMovesMask(x, y + 1) & NORTH) != 0) {
+			return index + size;
+		}
+		if (x > 1 && marks[index - 1] == mark - 1 && (level.getPossibleMovesMask(x - 1, y) & EAST) != 0) {
+			return index - 1;
+		}
+		throw new IllegalStateException("Az út nem követhető vissza a(z) " + index + ". cellától");
+	}
+
+	private void offer (int index) {
+		if (queueSize == queue.length) {
+			var grown = new int[queue.length * 2];
+			var first = queue.length - queueHead;
+			System.arraycopy(queue, queueHead, grown, 0, first);
+			System.arraycopy(queue, 0, grown, first, queueHead);
+			queue = grown;
+			queueHead = 0;
+		}
+		queue[(queueHead + queueSize) & (queue.length - 1)] = index;
+		queueSize++;
+	}
+
+	private int poll () {
+		var index = queue[queueHead];
+		queueHead = (queueHead + 1) & (queue.length - 1);
+		queueSize--;
+		return index;
+	}
+
+	private static boolean isWumpus (Level level, int index, int size) {
+		return level.getLivingEntity(index % size + 1, index / size + 1) instanceof Wumpus;
+	}
+
+	/**
+	 * Az új keresés alapértéke az előző keresés legnagyobb értékénél eggyel nagyobb
+	 * Ha a távolságok már nem férnének el az int-ben, akkor a tömb kinullázódik, és újra 1-től indul
+	 */
+	private void nextBase () {
+		if (maxMark >= Integer.MAX_VALUE - marks.length) {
+			Arrays.fill(marks, 0);
+			maxMark = 0;
+		}
+		base = maxMark + 1;
+		maxMark = base;
+	}
+
+	private void ensureCapacity (int cells) {
+		if (marks.length >= cells) {
+			return;
+		}
+		marks = new int[cells];
+		maxMark = 0;
+	}
+
+	private static boolean isOnLevel (Position position, int size) {
+		return position != null && position.x() >= 1 && position.y() >= 1 && position.x() <= size && position.y() <= size;
+	}
+}
@@ -0,0 +1,372 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.Items;
+import hu.nye.pandragon.wumpus.model.LevelValidationResult;
+import hu.nye.pandragon.wumpus.model.Position;
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.LivingEntity;
+import hu.nye.pandragon.wumpus.model.entities.Pit;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static hu.nye.pandragon.wumpus.service.game.LevelBitboards.EAST;
+import static hu.nye.pandragon.wumpus.service.game.LevelBitboards.NORTH;
+import static hu.nye.pandragon.wumpus.service.game.LevelBitboards.SOUTH;
+import static hu.nye.pandragon.wumpus.service.game.LevelBitboards.WEST;
+
+/**
+ * Ez az osztály ellenőrzi, hogy egy pálya teljesíthető-e
+ * Egy pálya akkor teljesíthető, ha pontosan egy hős van rajta, és a hős el tud jutni az aranyig,
+ * onnan pedig vissza a kiindulási helyre
+ * A Wumpus cellájára lépve a hős meghal, így ezeken csak akkor mehet át, ha előtte lelövi a Wumpust,
+ * amihez egy nyíl kell, és a verembe lépve is elveszít egy nyilat
+ *
+ * Az ellenőrzés lépései, a gyorsabbaktól a lassabbak felé:
+ *  - a hős és az arany megléte
+ *  - út a Wumpusokon átmenve, ha így sincs út, akkor a pálya nem teljesíthető
+ *  - út a Wumpusokat elkerülve, ha így van út, akkor a pálya teljesíthető
+ *  - ha egyik sem dönt, akkor egy keresés, ami a hős helye mellett a nyilak számát,
+ *    a lelőtt Wumpusokat, és azt is számon tartja, hogy a hősnél van-e már az arany
+ * Az utolsó keresés állapottere a pálya celláinak többszöröse, ezért ez korlátozott,
+ * ha az állapotok száma nagyobb a korlátnál, akkor az eredmény nem döntő (limitReached), a pálya nem számít teljesíthetőnek,
+ * de hibásnak sem, erről a hívónak kell döntenie
+ *
+ * Az eredmények a pálya tartalmából készült kulcs szerint tárolódnak, így ugyanaz a pálya nem ellenőrződik újra,
+ * és ha a pálya nem változott az előző ellenőrzés óta, akkor a kulcsot sem kell újra elkészíteni
+ * A kulcs a teljes tartalmat tartalmazza, nem csak a hash-t, így két különböző pálya akkor sem kapja
+ * egymás eredményét, ha a hash-ük egyezik
+ */
+public class LevelValidator {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(LevelValidator.class);
+
+	/**
+	 * Az utolsó keresés állapotainak alapértelmezett korlátja, ennyi bit kell a bejárt állapotokhoz
+	 */
+	public static final int DEFAULT_MAX_STATES = 1 << 24;
+	/**
+	 * Ennél több Wumpus esetén a lelőtt Wumpusok már nem tarthatók számon
+	 */
+	private static final int MAX_TRACKED_WUMPUS = 16;
+	/**
+	 * Ennyi pálya eredményét tárolja
+	 */
+	private static final int CACHE_SIZE = 64;
+	/**
+	 * Ennél több foglalt cellájú pálya nem kerül a tárolóba, mert a kulcsa túl nagy lenne
+	 */
+	private static final int MAX_CACHED_CELLS = 1 << 16;
+	private static final Hero HERO = new Hero();
+	private static final Gold GOLD = new Gold();
+	private static final Wumpus WUMPUS = new Wumpus();
+
+	private final int maxStates;
+	private final LevelPathfinder pathfinder = new LevelPathfinder();
+	private final Map<ContentKey, LevelValidationResult> cache = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry (Map.Entry<ContentKey, LevelValidationResult> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+	/**
+	 * Az utoljára ellenőrzött pálya, és hogy melyik módosítási állapotában volt
+	 * A játék a hős nyilait és tárgyait a Level.entityChanged() jelzésével változtatja,
+	 * de a hős setter-einek közvetlen hívása nem növeli a számlálót, ezért ezek külön is számítanak
+	 */
+	private Level lastLevel;
+	private long lastStamp;
+	private long lastHeroState;
+	private LevelValidationResult lastResult;
+
+	public LevelValidator () {
+		this(DEFAULT_MAX_STATES);
+	}
+
+	/**
+	 * @param maxStates az utolsó keresés állapotainak korlátja
+	 */
+	public LevelValidator (int maxStates) {
+		if (maxStates < 1) {
+			throw new IllegalArgumentException("Az állapotok korlátja legalább 1 lehet");
+		}
+		this.maxStates = maxStates;
+	}
+
+	/**
+	 * Ellenőrzi a pályát, vagy visszaadja a korábbi eredményt, ha ugyanezt a pályát már ellenőrizte
+	 * @param level a pálya
+	 * @return az ellenőrzés eredménye
+	 */
+	public LevelValidationResult validate (Level level) {
+		var heroState = getHeroState(level);
+		if (level == lastLevel && level.getModificationStamp() == lastStamp && heroState == lastHeroState) {
+			return lastResult;
+		}
+		var key = contentKey(level);
+		var result = cache.get(key);
+		if (result == null) {
+			var start = System.nanoTime();
+			result = check(level);
+			if (key.cells().length <= MAX_CACHED_CELLS) {
+				cache.put(key, result);
+			}
+			LOGGER.debug("Pálya ellenőrzése: {}, idő: {} ms", result, (System.nanoTime() - start) / 1_000_000);
+		}
+		lastLevel = level;
+		lastStamp = level.getModificationStamp();
+		lastHeroState = heroState;
+		lastResult = result;
+		return result;
+	}
+
+	/**
+	 * A pálya tartalmából készült kulcs, csak azok a tulajdonságok számítanak bele,
+	 * amik a teljesíthetőséget befolyásolják: a méret, a kiindulási hely, a pályaelemek fajtája,
+	 * a hős nyilai, és hogy nála van-e az arany
+	 * A falak formája és a lények iránya nem számít
+	 * @param level a pálya
+	 * @return a kulcs
+	 */
+	static ContentKey contentKey (Level level) {
+		var size = level.getSize();
+		var start = level.getStartPoint();
+		var heroState = getHeroState(level);
+		long hash = (31L * size + start.hashCode()) * 31 + heroState;
+		var cells = new long[64];
+		var count = 0;
+		for (int y = 1; y <= size; y++) {
+			for (int x = 1; x <= size; x++) {
+				var staticEntity = level.getStaticEntity(x, y);
+				var livingEntity = level.getLivingEntity(x, y);
+				if (staticEntity == null && livingEntity == null) {
+					continue;
+				}
+				var cell = (long) ((y - 1) * size + x - 1) << 32
+						| (staticEntity != null ? staticEntity.getCompatibilitySymbol() : 0) << 16
+						| (livingEntity != null ? livingEntity.getCompatibilitySymbol() : 0);
+				if (count == cells.length) {
+					cells = Arrays.copyOf(cells, count * 2);
+				}
+				cells[count++] = cell;
+				hash = hash * 1_000_003L + cell;
+			}
+		}
+		return new ContentKey(size, start, heroState, hash, Arrays.copyOf(cells, count));
+	}
+
+	/**
+	 * A pálya tartalmából számolt hash, ez a kulcs hash-e
+	 * @param level a pálya
+	 * @return a hash
+	 */
+	static long contentHash (Level level) {
+		return contentKey(level).hash();
+	}
+
+	/**
+	 * A hős nyilai, és hogy nála van-e az arany, egy számban
+	 */
+	private static long getHeroState (Level level) {
+		var hero = level.getHero();
+		if (hero == null) {
+			return -1;
+		}
+		return (long) hero.getAmmoAmount() << 1 | (hero.hasItem(Items.Gold) ? 1 : 0);
+	}
+
+	private LevelValidationResult check (Level level) {
+		var heroes = level.getEntityCount(HERO);
+		if (heroes == 0) {
+			return failed("Nincs hős a pályán");
+		}
+		if (heroes > 1) {
+			return failed(String.format("Csak egy hős lehet a pályán, most %d van", heroes));
+		}
+		var hero = level.getHero();
+		var heroHasGold = hero.hasItem(Items.Gold);
+		var gold = level.findEntity(GOLD);
+		if (gold == null && !heroHasGold) {
+			return failed("Nincs arany a pályán");
+		}
+		var start = level.getStartPoint();
+		if (start.x() < 1 || start.y() < 1 || start.x() > level.getSize() || start.y() > level.getSize()) {
+			return failed("Nincs kiindulási hely a pályán");
+		}
+		var from = hero.getPosition();
+		if (heroHasGold) {
+			if (pathfinder.distance(level, from, start) == -1) {
+				return failed("A hős nem tud visszajutni a kiindulási helyre");
+			}
+		}
+		else {
+			if (pathfinder.distance(level, from, gold) == -1) {
+				return failed("Az arany nem érhető el a hős helyéről");
+			}
+			if (pathfinder.distance(level, gold, start) == -1) {
+				return failed("Az aranytól nem lehet visszajutni a kiindulási helyre");
+			}
+		}
+		if (level.getEntityCount(WUMPUS) == 0) {
+			return passed();
+		}
+		if (heroHasGold ? pathfinder.safeDistance(level, from, start) != -1
+				: pathfinder.safeDistance(level, from, gold) != -1 && pathfinder.safeDistance(level, gold, start) != -1) {
+			return passed();
+		}
+		return switch (searchWithArrows(level, hero, heroHasGold ? null : gold)) {
+			case 1 -> passed();
+			case 0 -> failed("A Wumpusok elzárják az utat, és nincs elég nyíl a lelövésükhöz");
+			default -> inconclusive();
+		};
+	}
+
+	/**
+	 * Szélességi keresés a (cella, nyilak száma, lelőtt Wumpusok, a hősnél van-e az arany) állapotokon
+	 * Élő Wumpus cellájára csak úgy lehet lépni, ha előtte a hős lelövi, ez egy nyíl,
+	 * a verembe lépve pedig egy nyíl elveszik, ha még van
+	 * @param gold az arany helye, vagy null, ha a hősnél már ott van
+	 * @return 1, ha a pálya teljesíthető, 0, ha nem, -1, ha a keresés elérte a korlátját
+	 */
+	private int searchWithArrows (Level level, Hero hero, Position gold) {
+		var size = level.getSize();
+		var cells = size * size;
+		var wumpusCells = findWumpusCells(level);
+		var wumpusCount = wumpusCells.length;
+		var arrowStates = Math.max(0, hero.getAmmoAmount()) + 1;
+		var states = (long) cells * arrowStates << wumpusCount + 1;
+		if (wumpusCount > MAX_TRACKED_WUMPUS || states > maxStates) {
+			LOGGER.warn("A pálya túl nagy a teljes ellenőrzéshez, állapotok: {}, korlát: {}", states, maxStates);
+			return -1;
+		}
+		var startCell = index(level.getStartPoint(), size);
+		var goldCell = gold != null ? index(gold, size) : -1;
+		var visited = new long[(int) ((states + 63) >>> 6)];
+		var queue = new int[64];
+		int head = 0, tail = 0;
+
+		var heroCell = index(hero.getPosition(), size);
+		var firstHasGold = gold == null || heroCell == goldCell;
+		if (firstHasGold && heroCell == startCell) {
+			return 1;
+		}
+		var first = encode(heroCell, arrowStates - 1, 0, firstHasGold, arrowStates, wumpusCount);
+		visited[first >>> 6] |= 1L << first;
+		queue[tail++] = first;
+		while (head < tail) {
+			var state = queue[head++];
+			var hasGold = (state & 1) != 0;
+			var killed = (state >>> 1) & ((1 << wumpusCount) - 1);
+			var rest = state >>> wumpusCount + 1;
+			var arrows = rest % arrowStates;
+			var cell = rest / arrowStates;
+			var moves = level.getPossibleMovesMask(cell % size + 1, cell / size + 1);
+			for (int direction = NORTH; direction <= WEST; direction <<= 1) {
+				if ((moves & direction) == 0) {
+					continue;
+				}
+				var next = switch (direction) {
+					case NORTH -> cell - size;
+					case EAST -> cell + 1;
+					case SOUTH -> cell + size;
+					default -> cell - 1;
+				};
+				int nextArrows = arrows, nextKilled = killed;
+				var wumpus = indexOf(wumpusCells, next);
+				if (wumpus != -1 && (killed & 1 << wumpus) == 0) {
+					if (arrows == 0) {
+						continue;
+					}
+					nextArrows--;
+					nextKilled |= 1 << wumpus;
+				}
+				if (nextArrows > 0 && level.getStaticEntity(next % size + 1, next / size + 1) instanceof Pit) {
+					nextArrows--;
+				}
+				var nextHasGold = hasGold || next == goldCell;
+				if (nextHasGold && next == startCell) {
+					return 1;
+				}
+				var nextState = encode(next, nextArrows, nextKilled, nextHasGold, arrowStates, wumpusCount);
+				if ((visited[nextState >>> 6] & 1L << nextState) != 0) {
+					continue;
+				}
+				visited[nextState >>> 6] |= 1L << nextState;
+				if (tail == queue.length) {
+					queue = Arrays.copyOf(queue, (int) Math.min(states, 2L * queue.length));
+				}
+				queue[tail++] = nextState;
+			}
+		}
+		return 0;
+	}
+
+	private static int encode (int cell, int arrows, int killed, boolean hasGold, int arrowStates, int wumpusCount) {
+		return ((cell * arrowStates + arrows) << wumpusCount | killed) << 1 | (hasGold ? 1 : 0);
+	}
+
+	private static int[] findWumpusCells (Level level) {
+		var size = level.getSize();
+		var cells = new int[level.getLivingEntityCount()];
+		var count = 0;
+		for (int i = 0; i < cells.length; i++) {
+			LivingEntity entity = level.getNthLivingEntity(i);
+			if (entity instanceof Wumpus) {
+				cells[count++] = index(entity.getPosition(), size);
+			}
+		}
+		return Arrays.copyOf(cells, count);
+	}
+
+	private static int indexOf (int[] values, int value) {
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int index (Position position, int size) {
+		return (position.y() - 1) * size + position.x() - 1;
+	}
+
+	/**
+	 * Egy pálya tartalma a teljesíthetőség szempontjából
+	 * @param cells a foglalt cellák, mindegyik egy számban: a cella indexe a felső 32 biten,
+	 *              alatta a statikus pályaelem és a lény jele, sorfolytonos sorrendben
+	 * @param hash a tartalomból számolt hash, az egyenlőségvizsgálatot csak gyorsítja
+	 */
+	record ContentKey (int size, Position start, long heroState, long hash, long[] cells) {
+
+		@Override
+		public boolean equals (Object o) {
+			return o instanceof ContentKey other && hash == other.hash && size == other.size
+					&& heroState == other.heroState && start.equals(other.start) && Arrays.equals(cells, other.cells);
+		}
+
+		@Override
+		public int hashCode () {
+			return Long.hashCode(hash);
+		}
+	}
+
+	private static LevelValidationResult failed (String problem) {
+		return new LevelValidationResult(false, false, List.of(problem));
+	}
+
+	private static LevelValidationResult passed () {
+		return new LevelValidationResult(true, false, List.of());
+	}
+
+	private static LevelValidationResult inconclusive () {
+		return new LevelValidationResult(false, true,
+				List.of("A pálya túl nagy a teljes ellenőrzéshez, nem biztos, hogy teljesíthető"));
+	}
+}
@@ -0,0 +1,135 @@
+package hu.nye.pandragon.wumpus.service.simulation;
+
+import hu.nye.pandragon.wumpus.model.LevelVO;
+import hu.nye.pandragon.wumpus.model.entities.Pit;
+import hu.nye.pandragon.wumpus.service.game.GameSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Ez az osztály egy pályán sok játékot játszik le egy stratégiával, több szálon, és összesíti az eredményüket
+ * A játékokat csoportokra bontja, és a csoportokat egy ForkJoinPool szálai játsszák le
+ * Minden játék a pálya saját példányán folyik egy GameSession-ben, ugyanazokkal a szabályokkal, mint a játékban
+ * A csoportok véletlenszám-forrásai a kezdőértékből, a csoportok felosztásával együtt jönnek létre,
+ * így ugyanazzal a kezdőértékkel az eredmény ugyanaz, akárhány szálon fut
+ */
+public class MonteCarloSimulator {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MonteCarloSimulator.class);
+
+	private final ForkJoinPool pool;
+	/**
+	 * Legfeljebb ennyi játékot játszik le egy feladat, a nagyobb csoportokat kettéosztja
+	 */
+	private final int batchSize;
+
+	public MonteCarloSimulator () {
+		this(ForkJoinPool.commonPool(), 256);
+	}
+
+	public MonteCarloSimulator (ForkJoinPool pool, int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("Egy csoportban legalább 1 játék lehet");
+		}
+		this.pool = pool;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Játékok lejátszása véletlenszerű stratégiával
+	 * @see #simulate(LevelVO, long, long, int, Supplier)
+	 */
+	public SimulationResult simulate (LevelVO levelVO, long games, long seed, int maxSteps) {
+		return simulate(levelVO, games, seed, maxSteps, RandomPolicy::new);
+	}
+
+	/**
+	 * Játékok lejátszása a megadott stratégiával
+	 * @param levelVO a pálya, ezt a szálak csak olvassák
+	 * @param games a játékok száma
+	 * @param seed a véletlenszámok kezdőértéke
+	 * @param maxSteps egy játék legfeljebb ennyi lépésig tart
+	 * @param policies minden csoport ebből kap egy saját stratégiát
+	 * @return az összesített eredmény
+	 * @throws RuntimeException ha nincs hős a pályán
+	 */
+	public SimulationResult simulate (LevelVO levelVO, long games, long seed, int maxSteps,
+			Supplier<? extends SimulationPolicy> policies) {
+		if (games < 0 || maxSteps < 1) {
+			throw new IllegalArgumentException("A játékok száma nem lehet negatív, és legalább 1 lépés kell");
+		}
+		// ha nincs hős a pályán, akkor a kivétel itt keletkezik, nem a szálakon
+		new GameSession(levelVO);
+		LOGGER.debug("Szimuláció: {} játék, max {} lépés, szálak: {}", games, maxSteps, pool.getParallelism());
+		return pool.invoke(new Batch(levelVO, maxSteps, policies, 0, games, new SplittableRandom(seed)));
+	}
+
+	/**
+	 * Egy játék lejátszása, és az eredményének hozzáadása az összesítéshez
+	 */
+	static void play (LevelVO levelVO, int maxSteps, SimulationPolicy policy, SplittableRandom random,
+			SimulationResult result) {
+		var session = new GameSession(levelVO);
+		var hero = session.getHero();
+		var level = session.getLevel();
+		var pitArrowLoss = 0;
+		while (!session.getState().isFinished() && session.getSteps() < maxSteps) {
+			var arrows = hero.getAmmoAmount();
+			var before = hero.getPosition();
+			session.step(policy.nextCommand(session, random));
+			var position = hero.getPosition();
+			// a verem csak akkor visz el nyilat, ha a hős most lépett bele, a vermen állva lőtt nyíl nem számít ide
+			if (hero.getAmmoAmount() < arrows && !position.equals(before)
+					&& level.getStaticEntity(position.x(), position.y()) instanceof Pit) {
+				pitArrowLoss += arrows - hero.getAmmoAmount();
+			}
+		}
+		result.add(session.getState(), session.getSteps(), pitArrowLoss);
+	}
+
+	/**
+	 * A játékok egy csoportja, a [from, to) sorszámú játékok
+	 */
+	private class Batch extends RecursiveTask<SimulationResult> {
+
+		private final LevelVO levelVO;
+		private final int maxSteps;
+		private final Supplier<? extends SimulationPolicy> policies;
+		private final long from;
+		private final long to;
+		private final SplittableRandom random;
+
+		Batch (LevelVO levelVO, int maxSteps, Supplier<? extends SimulationPolicy> policies, long from, long to,
+				SplittableRandom random) {
+			this.levelVO = levelVO;
+			this.maxSteps = maxSteps;
+			this.policies = policies;
+			this.from = from;
+			this.to = to;
+			this.random = random;
+		}
+
+		@Override
+		protected SimulationResult compute () {
+			if (to - from <= batchSize) {
+				var result = new SimulationResult(maxSteps);
+				var policy = policies.get();
+				for (long i = from; i < to; i++) {
+					play(levelVO, maxSteps, policy, random, result);
+				}
+				return result;
+			}
+			var middle = from + (to - from) / 2;
+			var left = new Batch(levelVO, maxSteps, policies, from, middle, random.split());
+			var right = new Batch(levelVO, maxSteps, policies, middle, to, random);
+			left.fork();
+			var result = right.compute();
+			return result.merge(left.join());
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package hu.nye.pandragon.wumpus.service.simulation;
+
+import hu.nye.pandragon.wumpus.model.Items;
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.service.game.GameSession;
+
+import java.util.SplittableRandom;
+
+/**
+ * Véletlenszerűen lépő stratégia
+ * Ha a hős az aranyon áll, akkor felveszi, egyébként a parancsok fele lépés,
+ * a többi fordulás jobbra vagy balra, és néha lövés, ha van nyila
+ */
+public class RandomPolicy implements SimulationPolicy {
+
+	static final String MOVE = "lép";
+	static final String TURN_RIGHT = "fordul jobbra";
+	static final String TURN_LEFT = "fordul balra";
+	static final String SHOOT = "lő";
+	static final String PICK_UP = "aranyat felszed";
+
+	@Override
+	public String nextCommand (GameSession session, SplittableRandom random) {
+		var hero = session.getHero();
+		var position = hero.getPosition();
+		if (!hero.hasItem(Items.Gold) && session.getLevel().getStaticEntity(position.x(), position.y()) instanceof Gold) {
+			return PICK_UP;
+		}
+		var n = random.nextInt(10);
+		if (n < 5) {
+			return MOVE;
+		}
+		if (n < 7) {
+			return TURN_RIGHT;
+		}
+		if (n < 9 || hero.getAmmoAmount() < 1) {
+			return TURN_LEFT;
+		}
+		return SHOOT;
+	}
+}
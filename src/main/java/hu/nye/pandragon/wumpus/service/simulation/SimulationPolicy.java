@@ -0,0 +1,21 @@
+package hu.nye.pandragon.wumpus.service.simulation;
+
+import hu.nye.pandragon.wumpus.service.game.GameSession;
+
+import java.util.SplittableRandom;
+
+/**
+ * Egy stratégia, ami a szimulációban a játékos helyett dönti el, mi legyen a következő parancs
+ * Egy példányt egyszerre csak egy szál használ, így lehet állapota is
+ */
+@FunctionalInterface
+public interface SimulationPolicy {
+
+	/**
+	 * A következő parancs kiválasztása
+	 * @param session a játékmenet, ebből olvasható ki a pálya és a hős állapota, de nem szabad módosítani
+	 * @param random a véletlenszámok forrása, csak ezt szabad használni, hogy a szimuláció megismételhető legyen
+	 * @return a parancs, ugyanúgy, ahogy a játékos beírná
+	 */
+	String nextCommand (GameSession session, SplittableRandom random);
+}
@@ -0,0 +1,180 @@
+package hu.nye.pandragon.wumpus.service.simulation;
+
+import hu.nye.pandragon.wumpus.model.GameState;
+import lombok.Getter;
+
+/**
+ * A szimulált játékok összesített eredménye
+ * A lépések eloszlását hisztogramban tárolja, így a mérete nem függ a játékok számától,
+ * és két eredmény olcsón összevonható
+ */
+@Getter
+public class SimulationResult {
+
+	/**
+	 * Egy játék legfeljebb ennyi lépésig tart, utána időtúllépésnek számít
+	 */
+	private final int maxSteps;
+	private long games;
+	private long wins;
+	/**
+	 * A hőst megölte egy Wumpus
+	 */
+	private long wumpusDeaths;
+	private long givenUp;
+	/**
+	 * A játék nem ért véget maxSteps lépés alatt
+	 */
+	private long timeouts;
+	/**
+	 * Hány játékban veszített a hős nyilat verembe lépve
+	 */
+	private long gamesWithPitArrowLoss;
+	/**
+	 * Összesen hány nyíl veszett el vermekben
+	 */
+	private long arrowsLostToPits;
+	/**
+	 * A lépések száma szerinti hisztogram az összes játékra, és csak a megnyertekre
+	 */
+	@Getter(lombok.AccessLevel.NONE)
+	private final long[] steps;
+	@Getter(lombok.AccessLevel.NONE)
+	private final long[] winSteps;
+
+	public SimulationResult (int maxSteps) {
+		this.maxSteps = maxSteps;
+		steps = new long[maxSteps + 1];
+		winSteps = new long[maxSteps + 1];
+	}
+
+	/**
+	 * Egy lejátszott játék hozzáadása
+	 * @param state a játék állapota a végén, Running, ha nem ért véget
+	 * @param gameSteps a megtett lépések száma
+	 * @param pitArrowLoss hány nyilat veszített a hős vermekben
+	 */
+	void add (GameState state, int gameSteps, int pitArrowLoss) {
+		games++;
+		steps[gameSteps]++;
+		switch (state) {
+			case Won -> {
+				wins++;
+				winSteps[gameSteps]++;
+			}
+			case Died -> wumpusDeaths++;
+			case GaveUp -> givenUp++;
+			default -> timeouts++;
+		}
+		if (pitArrowLoss > 0) {
+			gamesWithPitArrowLoss++;
+			arrowsLostToPits += pitArrowLoss;
+		}
+	}
+
+	/**
+	 * Egy másik részeredmény hozzáadása ehhez
+	 * @param other a másik eredmény, ugyanazzal a maxSteps értékkel
+	 * @return ez az objektum
+	 */
+	SimulationResult merge (SimulationResult other) {
+		games += other.games;
+		wins += other.wins;
+		wumpusDeaths += other.wumpusDeaths;
+		givenUp += other.givenUp;
+		timeouts += other.timeouts;
+		gamesWithPitArrowLoss += other.gamesWithPitArrowLoss;
+		arrowsLostToPits += other.arrowsLostToPits;
+		for (int i = 0; i <= maxSteps; i++) {
+			steps[i] += other.steps[i];
+			winSteps[i] += other.winSteps[i];
+		}
+		return this;
+	}
+
+	/**
+	 * A megnyert játékok aránya, 0 és 1 között
+	 */
+	public double getWinRate () {
+		return games == 0 ? 0 : (double) wins / games;
+	}
+
+	/**
+	 * Hány játék tartott pontosan ennyi lépésig
+	 * @param gameSteps a lépések száma
+	 */
+	public long getGamesWithSteps (int gameSteps) {
+		return steps[gameSteps];
+	}
+
+	/**
+	 * A lépések számának percentilise az összes játékban
+	 * @param p 0 és 1 közötti érték, pl. 0.5 a medián
+	 * @return a lépések száma, vagy -1, ha nincs játék
+	 */
+	public int getStepPercentile (double p) {
+		return percentile(steps, games, p);
+	}
+
+	/**
+	 * A lépések számának percentilise a megnyert játékokban
+	 * @param p 0 és 1 közötti érték, pl. 0.5 a medián
+	 * @return a lépések száma, vagy -1, ha nincs megnyert játék
+	 */
+	public int getWinStepPercentile (double p) {
+		return percentile(winSteps, wins, p);
+	}
+
+	public double getAverageSteps () {
+		return average(steps, games);
+	}
+
+	public double getAverageWinSteps () {
+		return average(winSteps, wins);
+	}
+
+	/**
+	 * Az eredmény szöveges összefoglalója
+	 */
+	public String getReport () {
+		var b = new StringBuilder();
+		b.append(String.format("Játékok: %d\n", games));
+		b.append(String.format("Győzelem: %d (%.2f%%)\n", wins, getWinRate() * 100));
+		b.append(String.format("Wumpus ölte meg a hőst: %d\n", wumpusDeaths));
+		b.append(String.format("Feladva: %d\n", givenUp));
+		b.append(String.format("Nem ért véget %d lépés alatt: %d\n", maxSteps, timeouts));
+		b.append(String.format("Nyilat veszített verembe lépve: %d játékban, összesen %d nyilat\n",
+				gamesWithPitArrowLoss, arrowsLostToPits));
+		b.append(String.format("Lépések: átlag %.1f, medián %d, 90%%: %d\n",
+				getAverageSteps(), getStepPercentile(0.5), getStepPercentile(0.9)));
+		b.append(String.format("Lépések a győzelemig: átlag %.1f, medián %d, 90%%: %d",
+				getAverageWinSteps(), getWinStepPercentile(0.5), getWinStepPercentile(0.9)));
+		return b.toString();
+	}
+
+	private static int percentile (long[] histogram, long count, double p) {
+		if (count == 0) {
+			return -1;
+		}
+		var rank = Math.max(1, (long) Math.ceil(p * count));
+		long seen = 0;
+		for (int i = 0; i < histogram.length; i++) {
+			seen += histogram[i];
+			if (seen >= rank) {
+				return i;
+			}
+		}
+		return histogram.length - 1;
+	}
+
+	private static double average (long[] histogram, long count) {
+		if (count == 0) {
+			return 0;
+		}
+		double sum = 0;
+		for (int i = 0; i < histogram.length; i++) {
+			sum += (double) i * histogram[i];
+		}
+		return sum / count;
+	}
+}
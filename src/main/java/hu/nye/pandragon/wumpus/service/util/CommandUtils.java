@@ -1,10 +1,9 @@
 package hu.nye.pandragon.wumpus.service.util;
 
+import hu.nye.pandragon.wumpus.model.Position;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.awt.*;
-
 public class CommandUtils {
 
 	/**
@@ -14,19 +13,19 @@ public class CommandUtils {
 
 	/**
 	 * Koordinátákká alakítja a bemenetet, ha lehet
-	 * @param pointX oszlop betűjel
+	 * @param pointX oszlop betűjele (a, b, ..., z, aa, ab, ...) vagy száma
 	 * @param pointY sor száma
 	 * @param levelSize a pálya oldalhossza
-	 * @return a koordináták egy Point objektumban
+	 * @return a koordináták egy Position objektumban
 	 */
-	public static Point getCoordinates (String pointX, String pointY, int levelSize) {
-		int x = pointX.toCharArray()[0] - 96;
+	public static Position getCoordinates (String pointX, String pointY, int levelSize) {
+		int x = parseColumn(pointX);
 		if (x < 1 || x > levelSize) {
 			LOGGER.error("Nincs ilyen azonosítójú osztlop: {} ({})", x, pointX.toUpperCase());
 			throw new RuntimeException("Nincs ilyen azonosítójú tslp: " + pointX.toUpperCase());
 		}
 
-		int y = Integer.parseInt(pointY);
+		int y = parseNumber(pointY);
 		if (y < 1 || y > levelSize) {
 			var error = "Nincs ilyen azonosítójú sor: " + pointY;
 			LOGGER.error(error);
@@ -37,6 +36,55 @@ public class CommandUtils {
 			LOGGER.error("koordináta a pálya szélén");
 			throw new RuntimeException("Nem lehet módosítani a pálya szélén lévő falakat");
 		}
-		return new Point(x, y);
+		return new Position(x, y);
+	}
+
+	/**
+	 * Az oszlop azonosítójából kiszámolja az oszlop számát
+	 * Az azonosító lehet betűjel, ahogy a táblázatkezelőkben: a = 1, z = 26, aa = 27, ...
+	 * vagy egyszerűen az oszlop száma, ez nagy pályán kényelmesebb
+	 * @param column az oszlop azonosítója kisbetűkkel, ahogy a parancsokban
+	 * @return az oszlop száma (1-től), vagy -1, ha nem értelmezhető
+	 */
+	public static int parseColumn (String column) {
+		if (column.isEmpty()) {
+			return -1;
+		}
+		if (Character.isDigit(column.charAt(0))) {
+			return parseNumber(column);
+		}
+		int x = 0;
+		for (int i = 0; i < column.length(); i++) {
+			var c = column.charAt(i);
+			if (c < 'a' || c > 'z' || x > (Integer.MAX_VALUE - 26) / 26) {
+				return -1;
+			}
+			x = x * 26 + (c - 'a' + 1);
+		}
+		return x;
+	}
+
+	/**
+	 * Az oszlop betűjele, ahogy a pálya fölött megjelenik: A, B, ..., Z, AA, AB, ...
+	 * @param x az oszlop száma (1-től)
+	 * @return a betűjel
+	 */
+	public static String getColumnLabel (int x) {
+		var label = new StringBuilder();
+		while (x > 0) {
+			x--;
+			label.append((char) ('A' + x % 26));
+			x /= 26;
+		}
+		return label.reverse().toString();
+	}
+
+	private static int parseNumber (String s) {
+		try {
+			return Integer.parseInt(s);
+		}
+		catch (NumberFormatException e) {
+			return -1;
+		}
 	}
 }
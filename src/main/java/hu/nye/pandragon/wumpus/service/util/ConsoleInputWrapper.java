@@ -1,16 +1,43 @@
 package hu.nye.pandragon.wumpus.service.util;
 
-import java.util.Scanner;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.NoSuchElementException;
 
 public class ConsoleInputWrapper {
 
+	/**
+	 * Az összes ConsoleInputWrapper ugyanazt az olvasót használja
+	 * Ha minden képernyőnek, vagy minden olvasásnak saját olvasója lenne,
+	 * akkor az egyik a pufferébe olvashatná a másiknak szánt sorokat,
+	 * így a beillesztett vagy átirányított bemenetből sorok veszhetnének el
+	 */
+	private static BufferedReader reader;
+	/**
+	 * Melyik bemenetből olvas az olvasó, ha a System.in megváltozik, akkor új olvasó kell
+	 */
+	private static InputStream source;
+
 	/**
 	 * Bemenet olvasása a felhasználótól
 	 * @return a beírt szöveg
+	 * @throws NoSuchElementException ha a bemenetnek vége
 	 */
 	public String readFromConsole () {
-		var scanner = new Scanner(System.in);
-		var line = scanner.nextLine();
+		String line;
+		try {
+			line = getReader().readLine();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (line == null) {
+			throw new NoSuchElementException("Nincs több bemenet");
+		}
 		return line;
 	}
 
@@ -23,4 +50,12 @@ public class ConsoleInputWrapper {
 		System.out.print("> ");
 		return readFromConsole().trim();
 	}
+
+	private static synchronized BufferedReader getReader () {
+		if (reader == null || source != System.in) {
+			source = System.in;
+			reader = new BufferedReader(new InputStreamReader(source, Charset.defaultCharset()));
+		}
+		return reader;
+	}
 }
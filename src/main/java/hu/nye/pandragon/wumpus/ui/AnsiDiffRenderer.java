@@ -0,0 +1,257 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ez az osztály a pálya rajzát úgy írja ki, hogy csak a legutóbbi kiírás óta
+ * megváltozott karaktereket küldi el, ANSI kurzormozgató szekvenciákkal
+ * Egy lépés a pályán legfeljebb néhány cellát változtat meg,
+ * így lassú kapcsolaton vagy nagy pályán is kevés kimenet keletkezik
+ * Az első rajzot, illetve ha megváltozik a rajz mérete, teljesen kiírja, a képernyő törlése után
+ * A rajz alatti részt minden kiírás után törli, ide kerülhetnek az üzenetek és a parancssor
+ * A kurzormozgatás csak akkor helyes, ha a képernyő nem görgetett el, ezért csak akkor ír ki változásokat,
+ * ha ismert a terminál magassága, és a fejléc, a rajz és az alatta lévő sorok elférnek benne,
+ * egyébként minden alkalommal teljesen kiírja a rajzot
+ */
+public class AnsiDiffRenderer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AnsiDiffRenderer.class);
+
+	private static final String ESC = "\u001b[";
+	/**
+	 * Ha két megváltozott szakasz között ennél kevesebb változatlan karakter van,
+	 * akkor olcsóbb azokat is kiírni, mint egy újabb kurzormozgatást küldeni
+	 */
+	private static final int MERGE_GAP = 4;
+	/**
+	 * A rajz alatt ennyi sornak kell még elférnie: az üzenet, a hős adatai és a parancssor
+	 */
+	static final int FOOTER_ROWS = 3;
+
+	private final PrintWrapper printWrapper;
+	/**
+	 * A terminál sorainak száma, 0, ha nem ismert
+	 * Ha nem ismert, vagy a rajz nem fér ki, akkor a kurzor nem vihető biztosan a helyére,
+	 * ilyenkor mindig teljes a kiírás
+	 */
+	private final int terminalRows;
+	/**
+	 * A rajz fölött megjelenő, nem változó szöveg, pl. a parancsok listája
+	 */
+	private String[] header;
+	/**
+	 * A legutóbb kiírt rajz másolata, null, ha még nem volt kiírás
+	 */
+	private char[] previous;
+	/**
+	 * A kiírás ebben készül, minden alkalommal újra felhasználva
+	 */
+	private final StringBuilder output = new StringBuilder();
+
+	public AnsiDiffRenderer (PrintWrapper printWrapper) {
+		this(printWrapper, readTerminalRows());
+	}
+
+	/**
+	 * @param printWrapper ide ír
+	 * @param terminalRows a terminál sorainak száma, 0, ha nem ismert
+	 */
+	AnsiDiffRenderer (PrintWrapper printWrapper, int terminalRows) {
+		this.printWrapper = printWrapper;
+		this.header = new String[0];
+		this.terminalRows = terminalRows;
+	}
+
+	/**
+	 * Eldönti, hogy a terminál valószínűleg támogatja-e az ANSI szekvenciákat
+	 * A wumpus.ansi rendszertulajdonsággal felül lehet bírálni,
+	 * egyébként csak akkor támogatott, ha van konzol, és a TERM nem "dumb"
+	 * @return true, ha lehet használni
+	 */
+	public static boolean isSupported () {
+		var property = System.getProperty("wumpus.ansi");
+		if (property != null) {
+			return Boolean.parseBoolean(property);
+		}
+		var term = System.getenv("TERM");
+		return System.console() != null && term != null && !term.equals("dumb");
+	}
+
+	/**
+	 * Beállítja a rajz fölötti szöveget, ez csak teljes kiíráskor jelenik meg
+	 * A következő kiírás teljes lesz
+	 * @param text a szöveg
+	 */
+	public void setHeader (String text) {
+		header = text.isEmpty() ? new String[0] : text.stripTrailing().split("\n");
+		previous = null;
+	}
+
+	/**
+	 * A következő kiírás teljes lesz, pl. ha közben más is írt a képernyőre
+	 */
+	public void reset () {
+		previous = null;
+	}
+
+	/**
+	 * Kiírja a rajzot, vagy csak a változásait
+	 * @param frame a rajz, a sorokat '\n' választja el
+	 */
+	public void render (String frame) {
+		render(frame.toCharArray());
+	}
+
+	/**
+	 * Kiírja a rajzot, vagy csak a változásait
+	 * A rajzról másolatot készít, így a tömböt a hívó újra felhasználhatja
+	 * @param frame a rajz, a sorokat '\n' választja el
+	 */
+	public void render (char[] frame) {
+		output.setLength(0);
+		if (!isSameShape(frame) || !fitsTerminal(frame)) {
+			drawFull(frame);
+			previous = frame.clone();
+		}
+		else {
+			drawChanges(frame);
+			System.arraycopy(frame, 0, previous, 0, frame.length);
+		}
+		printWrapper.print(output.toString());
+	}
+
+	private void drawFull (char[] frame) {
+		LOGGER.debug("Teljes kiírás");
+		output.append(ESC).append("H").append(ESC).append("2J");
+		for (String line : header) {
+			output.append(line).append('\n');
+		}
+		output.append(frame).append('\n');
+	}
+
+	/**
+	 * A rajzot a régivel összevetve csak a megváltozott szakaszokat írja ki,
+	 * mindegyik elé a kurzort a helyére mozgató szekvenciát téve
+	 * Végül a kurzort a rajz alá viszi, és törli az alatta lévő részt
+	 */
+	private void drawChanges (char[] frame) {
+		var row = 0;
+		var lineStart = 0;
+		var i = 0;
+		while (i < frame.length) {
+			if (frame[i] == '\n') {
+				row++;
+				lineStart = i + 1;
+				i++;
+				continue;
+			}
+			if (frame[i] == previous[i]) {
+				i++;
+				continue;
+			}
+			var start = i;
+			var end = i + 1;
+			var gap = 0;
+			for (int j = end; j < frame.length && frame[j] != '\n' && gap < MERGE_GAP; j++) {
+				if (frame[j] == previous[j]) {
+					gap++;
+				}
+				else {
+					end = j + 1;
+					gap = 0;
+				}
+			}
+			moveCursor(header.length + row + 1, start - lineStart + 1);
+			output.append(frame, start, end - start);
+			i = end;
+		}
+		moveCursor(header.length + row + 2, 1);
+		output.append(ESC).append("J");
+	}
+
+	private void moveCursor (int row, int col) {
+		output.append(ESC).append(row).append(';').append(col).append('H');
+	}
+
+	/**
+	 * Ugyanolyan alakú-e a rajz, mint az előző, azaz ugyanott vannak-e benne a sorvégek
+	 */
+	private boolean isSameShape (char[] frame) {
+		if (previous == null || previous.length != frame.length) {
+			return false;
+		}
+		for (int i = 0; i < frame.length; i++) {
+			if ((frame[i] == '\n') != (previous[i] == '\n')) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Elfér-e a fejléc, a rajz és az alatta lévő sorok a terminálban görgetés nélkül
+	 * Ha a terminál magassága nem ismert, akkor nem tekinti elférőnek
+	 */
+	private boolean fitsTerminal (char[] frame) {
+		if (terminalRows <= 0) {
+			return false;
+		}
+		var rows = 1;
+		for (char c : frame) {
+			if (c == '\n') {
+				rows++;
+			}
+		}
+		return header.length + rows + FOOTER_ROWS <= terminalRows;
+	}
+
+	/**
+	 * A terminál sorainak száma
+	 * Sorrendben a wumpus.terminalRows rendszertulajdonságból, a LINES környezeti változóból,
+	 * ezek hiányában pedig, ha van konzol, az stty size parancsból, mert a LINES-t a shell általában nem exportálja
+	 * @return a sorok száma, vagy 0, ha nem ismert
+	 */
+	private static int readTerminalRows () {
+		var value = System.getProperty("wumpus.terminalRows");
+		if (value == null) {
+			value = System.getenv("LINES");
+		}
+		if (value == null && System.console() != null) {
+			value = querySttyRows();
+		}
+		try {
+			return value == null ? 0 : Integer.parseInt(value.trim());
+		}
+		catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private static String querySttyRows () {
+		try {
+			var process = new ProcessBuilder("sh", "-c", "stty size < /dev/tty")
+					.redirectErrorStream(true)
+					.start();
+			if (!process.waitFor(1, TimeUnit.SECONDS)) {
+				process.destroy();
+				return null;
+			}
+			var result = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+			var parts = result.split("\\s+");
+			return process.exitValue() == 0 && parts.length == 2 ? parts[0] : null;
+		}
+		catch (IOException e) {
+			LOGGER.debug("A terminál mérete nem kérdezhető le: {}", e.getMessage());
+			return null;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+}
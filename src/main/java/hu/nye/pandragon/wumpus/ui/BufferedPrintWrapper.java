@@ -0,0 +1,173 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.model.Directions;
+import hu.nye.pandragon.wumpus.model.Entities;
+import hu.nye.pandragon.wumpus.model.WallShape;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A PrintWrapper pufferelt változata
+ * A kiírásokat egy bájttömbben gyűjti, és csak a flush() hívásakor írja ki egyben,
+ * így egy kör kimenete egyetlen írással kerül a konzolra
+ * A pálya rajzában lévő szimbólumok (falak, irányok, pályaelemek) UTF-8 bájtjait előre kiszámolja,
+ * így ezeket nem kell minden kiíráskor újra kódolni
+ * Ha a konzol kódolása nem UTF-8, akkor a szöveget a konzol kódolásával alakítja bájtokká
+ */
+public class BufferedPrintWrapper extends PrintWrapper {
+
+	/**
+	 * A gyakori szimbólumok UTF-8 bájtjai, a karakter alsó 8 bitje szerint,
+	 * a SYMBOLS tömb ugyanezen a helyen tárolja, melyik karakterhez tartoznak
+	 */
+	private static final byte[][] SYMBOL_BYTES = new byte[256][];
+	private static final char[] SYMBOLS = new char[256];
+
+	static {
+		var b = new StringBuilder("•><░");
+		for (WallShape shape : WallShape.values()) {
+			b.append(shape.getSymbol());
+		}
+		for (Directions direction : Directions.values()) {
+			b.append(direction.getDisplaySymbol());
+		}
+		for (Entities entity : Entities.values()) {
+			b.append(entity.getEntity().getDisplaySymbol());
+		}
+		for (int i = 0; i < b.length(); i++) {
+			var c = b.charAt(i);
+			var slot = c & 0xFF;
+			if (c >= 0x80 && SYMBOL_BYTES[slot] == null) {
+				SYMBOLS[slot] = c;
+				SYMBOL_BYTES[slot] = String.valueOf(c).getBytes(StandardCharsets.UTF_8);
+			}
+		}
+	}
+
+	private final Charset charset;
+	private final boolean utf8;
+	private byte[] buffer;
+	private int length;
+
+	public BufferedPrintWrapper () {
+		this(Charset.defaultCharset());
+	}
+
+	public BufferedPrintWrapper (Charset charset) {
+		this.charset = charset;
+		this.utf8 = charset.equals(StandardCharsets.UTF_8);
+		this.buffer = new byte[8192];
+	}
+
+	@Override
+	public void print (String s) {
+		if (!utf8) {
+			append(s.getBytes(charset));
+			return;
+		}
+		for (int i = 0; i < s.length(); i++) {
+			var next = i + 1 < s.length() ? s.charAt(i + 1) : 0;
+			i += appendChar(s.charAt(i), (char) next);
+		}
+	}
+
+	@Override
+	public void println (String s) {
+		print(s);
+		print(System.lineSeparator());
+	}
+
+	@Override
+	public void println (char[] chars) {
+		if (!utf8) {
+			print(new String(chars));
+		}
+		else {
+			for (int i = 0; i < chars.length; i++) {
+				var next = i + 1 < chars.length ? chars[i + 1] : 0;
+				i += appendChar(chars[i], (char) next);
+			}
+		}
+		print(System.lineSeparator());
+	}
+
+	@Override
+	public void printf (String format, Object... objects) {
+		print(String.format(format, objects));
+	}
+
+	/**
+	 * Kiírja az összegyűjtött kimenetet egyetlen írással
+	 */
+	@Override
+	public void flush () {
+		if (length > 0) {
+			System.out.write(buffer, 0, length);
+			length = 0;
+		}
+		System.out.flush();
+	}
+
+	/**
+	 * Hány bájt vár kiírásra
+	 */
+	public int getBufferedLength () {
+		return length;
+	}
+
+	/**
+	 * Egy karakter UTF-8 kódolása a pufferbe
+	 * Ha a karakter egy surrogate pár első fele, akkor a következő karaktert is felhasználja
+	 * @param c a karakter
+	 * @param next a következő karakter, vagy 0, ha nincs
+	 * @return hány további karaktert használt fel (0 vagy 1)
+	 */
+	private int appendChar (char c, char next) {
+		if (c < 0x80) {
+			ensureCapacity(1);
+			buffer[length++] = (byte) c;
+			return 0;
+		}
+		var slot = c & 0xFF;
+		if (SYMBOLS[slot] == c) {
+			append(SYMBOL_BYTES[slot]);
+			return 0;
+		}
+		ensureCapacity(4);
+		if (c < 0x800) {
+			buffer[length++] = (byte) (0xC0 | (c >> 6));
+			buffer[length++] = (byte) (0x80 | (c & 0x3F));
+			return 0;
+		}
+		if (Character.isSurrogate(c)) {
+			if (!Character.isHighSurrogate(c) || !Character.isLowSurrogate(next)) {
+				buffer[length++] = '?';
+				return 0;
+			}
+			var codePoint = Character.toCodePoint(c, next);
+			buffer[length++] = (byte) (0xF0 | (codePoint >> 18));
+			buffer[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+			buffer[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+			buffer[length++] = (byte) (0x80 | (codePoint & 0x3F));
+			return 1;
+		}
+		buffer[length++] = (byte) (0xE0 | (c >> 12));
+		buffer[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+		buffer[length++] = (byte) (0x80 | (c & 0x3F));
+		return 0;
+	}
+
+	private void append (byte[] bytes) {
+		ensureCapacity(bytes.length);
+		System.arraycopy(bytes, 0, buffer, length, bytes.length);
+		length += bytes.length;
+	}
+
+	private void ensureCapacity (int extra) {
+		if (length + extra > buffer.length) {
+			buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.model.WallShape;
+import hu.nye.pandragon.wumpus.model.entities.Entity;
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Pit;
+import hu.nye.pandragon.wumpus.model.entities.Wall;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import hu.nye.pandragon.wumpus.service.game.Level;
+
+import java.util.Arrays;
+
+/**
+ * Ez az osztály a pályát tömören rajzolja ki, azaz egy karakter jelöl egy blokkot
+ * 1-es méretaránynál minden cella egy karakter, nagyobbnál egy K x K méretű blokk (minitérkép)
+ * Egy blokkban a legfontosabb pályaelem jele jelenik meg, a sorrend: hős, Wumpus, arany, verem, fal
+ * A falak formája csak 1-es méretaránynál látszik, a minitérképen minden fal '█'
+ * Üres helyen játék közben szóköz, szerkesztéskor pont van, a kiindulási helyen pedig egy zászló, ha ott nincs más
+ * A rajzon nincsenek oszlop- és sorazonosítók, hogy ránézésre áttekinthető legyen a nagy pálya is
+ */
+class CompactLevelRenderer {
+
+	private static final int EMPTY = 0;
+	private static final int WALL = 1;
+	private static final int PIT = 2;
+	private static final int GOLD = 3;
+	private static final int WUMPUS = 4;
+	private static final int HERO = 5;
+
+	private final int scale;
+	private char[] frame;
+	/**
+	 * A blokkok legfontosabb pályaelemének fontossága, soronként
+	 */
+	private int[] ranks;
+
+	/**
+	 * @param scale a méretarány, azaz hány cella oldalhosszú egy blokk
+	 */
+	CompactLevelRenderer (int scale) {
+		if (scale < 1) {
+			throw new IllegalArgumentException("A méretarány legalább 1 lehet");
+		}
+		this.scale = scale;
+	}
+
+	int getScale () {
+		return scale;
+	}
+
+	/**
+	 * Kirajzolja a pályát
+	 * A tömböt újra felhasználja, ha a mérete nem változik
+	 * @param level a pálya
+	 * @param isEditing szerkesztés közben van-e
+	 * @return a rajz, a sorokat '\n' zárja le
+	 */
+	char[] draw (Level level, boolean isEditing) {
+		var size = level.getSize();
+		var blocks = (size + scale - 1) / scale;
+		var length = blocks * (blocks + 1);
+		if (frame == null || frame.length != length) {
+			frame = new char[length];
+			ranks = new int[blocks * blocks];
+		}
+		Arrays.fill(ranks, EMPTY);
+		Arrays.fill(frame, isEditing ? '•' : ' ');
+		for (int y = 1; y <= size; y++) {
+			for (int x = 1; x <= size; x++) {
+				var entity = level.getStaticEntity(x, y);
+				if (entity != null) {
+					mark(blocks, x, y, getRank(entity), scale == 1 && entity instanceof Wall
+							? entity.getDisplaySymbol() : getSymbol(entity));
+				}
+			}
+		}
+		var startpoint = level.getStartPoint();
+		if (!isEditing && startpoint.x() > 0) {
+			var block = block(blocks, startpoint.x(), startpoint.y());
+			if (ranks[block] == EMPTY) {
+				frame[block + (block / blocks)] = WallShape.Startpoint.getSymbol();
+			}
+		}
+		for (int n = 0; n < level.getLivingEntityCount(); n++) {
+			var entity = level.getNthLivingEntity(n);
+			mark(blocks, entity.getPosition().x(), entity.getPosition().y(), getRank(entity), entity.getDisplaySymbol());
+		}
+		for (int row = 0; row < blocks; row++) {
+			frame[row * (blocks + 1) + blocks] = '\n';
+		}
+		return frame;
+	}
+
+	private void mark (int blocks, int x, int y, int rank, char symbol) {
+		var block = block(blocks, x, y);
+		if (rank > ranks[block]) {
+			ranks[block] = rank;
+			frame[block + block / blocks] = symbol;
+		}
+	}
+
+	private int block (int blocks, int x, int y) {
+		return (y - 1) / scale * blocks + (x - 1) / scale;
+	}
+
+	private static int getRank (Entity entity) {
+		if (entity instanceof Hero) {
+			return HERO;
+		}
+		if (entity instanceof Wumpus) {
+			return WUMPUS;
+		}
+		if (entity instanceof Gold) {
+			return GOLD;
+		}
+		if (entity instanceof Pit) {
+			return PIT;
+		}
+		if (entity instanceof Wall) {
+			return WALL;
+		}
+		return EMPTY;
+	}
+
+	private static char getSymbol (Entity entity) {
+		return entity instanceof Wall ? WallShape.Single.getSymbol() : entity.getDisplaySymbol();
+	}
+}
@@ -110,7 +110,7 @@ public class GameMainScreen extends Screen {
 	public void enterGame (int initialNumberOfMoves) {
 		if (levelVO != null) {
 			try {
-				var game = new GameplayScreen(levelVO, playerName);
+				var game = new GameplayScreen(levelVO, playerName, new BufferedPrintWrapper());
 				game.setNumberOfMoves(initialNumberOfMoves);
 				game.start();
 			}
@@ -1,20 +1,22 @@
 package hu.nye.pandragon.wumpus.ui;
 
 import hu.nye.pandragon.wumpus.model.*;
-import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
 import hu.nye.pandragon.wumpus.persistence.impl.JdbcGameStateRepository;
-import hu.nye.pandragon.wumpus.service.command.InputHandler;
-import hu.nye.pandragon.wumpus.service.command.impl.gameplay.*;
+import hu.nye.pandragon.wumpus.service.command.impl.gameplay.GameSaveCommand;
 import hu.nye.pandragon.wumpus.service.game.EntityController;
+import hu.nye.pandragon.wumpus.service.game.GameSession;
 import hu.nye.pandragon.wumpus.service.game.Level;
+import hu.nye.pandragon.wumpus.service.game.LevelEvent;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Arrays;
+import java.util.ArrayDeque;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Ez az osztály a játékot, mint a játékmenetet írja le és irányítja
+ * A játék szabályai a GameSession-ben vannak, ez az osztály a konzolos felülete:
+ * kirajzolja a pályát, bekéri a parancsokat, és kiírja az eredményt
  */
 @Slf4j
 public class GameplayScreen extends Screen {
@@ -22,17 +24,13 @@ public class GameplayScreen extends Screen {
 //	private static final log log  = logFactory.getlog(GameplayScreen.class);
 
 	/**
-	 * A pálya
-	 */
-	private final Level level;
-	/**
-	 * A hős
+	 * A játékmenet, a konzol nélkül
 	 */
-	private final Hero hero;
+	private final GameSession session;
 	/**
-	 * Hány lépést tesz meg a játékos
+	 * A pálya
 	 */
-	private final AtomicInteger numberOfMoves;
+	private final Level level;
 	/**
 	 * A játékos neve
 	 */
@@ -43,56 +41,103 @@ public class GameplayScreen extends Screen {
 	 * Csak a Wumpus-ok vannak bennük
 	 */
 	private final List<EntityController> entityControllers;
-	private final InputHandler inputHandler;
+	/**
+	 * A lépés közben a pályán történt események üzenetei, pl. a Wumpus halála
+	 * Nem íródnak ki azonnal, mert a kirajzolás csak a változásokat írhatja ki,
+	 * ezért a parancs üzenetével együtt, a pálya alatt jelennek meg
+	 */
+	private final StringBuilder eventMessages = new StringBuilder();
 
-	public GameplayScreen(LevelVO levelVO, PlayernameVO playerName) {
-		this.level = new Level(levelVO);
+	/**
+	 * @param levelVO a pálya
+	 * @param playerName a játékos neve
+	 * @param printWrapper ide kerül a kimenet, a játék körönként egyszer hívja a flush()-t,
+	 *                     így egy BufferedPrintWrapper-rel egy kör egy írással jelenik meg
+	 */
+	public GameplayScreen(LevelVO levelVO, PlayernameVO playerName, PrintWrapper printWrapper) {
+		setPrintWrapper(printWrapper);
+		this.session = new GameSession(levelVO);
+		this.level = session.getLevel();
 		this.playerName = playerName;
-		numberOfMoves = new AtomicInteger(0);
-		this.hero = level.getHero();
 		levelPrinter.setLevel(level);
-		if (hero == null) {
-			throw new RuntimeException("Nincs hős a pályán. Használd a pályaszerkesztőt, hogy hozzáadd a pályához.");
-		}
-		log.debug("Hős: " + hero);
+		setUpViewport();
 
 		this.entityControllers = level.getEntityControllers();
-		inputHandler = new InputHandler(Arrays.asList(
-				new HeroMoveCommand(level),
-				new HeroTurnCommand(level),
-				new HeroShootCommand(level),
-				new GameplayExitCommand(this),
-				new HeroPickUpCommand(level),
-				new GameSaveCommand(playerName, level, numberOfMoves)
-		));
-		inputHandler.setPrintWrapper(printWrapper);
+		session.addCommand(new GameSaveCommand(playerName, session));
+		level.addListener(event -> {
+			if (event instanceof LevelEvent.Killed killed && killed.entity() instanceof Wumpus) {
+				eventMessages.append("Wumpus: Áááá!\n");
+			}
+		});
+	}
+
+	/**
+	 * Nagy pályán csak a hős körüli ablak jelenik meg
+	 * Az ablak mérete a wumpus.viewport rendszertulajdonsággal állítható be, pl. 30x15,
+	 * ennek megadásakor kisebb pályán is ablakos lesz a kiírás
+	 */
+	private void setUpViewport () {
+		var property = System.getProperty("wumpus.viewport");
+		if (property != null && property.matches("[1-9]\\d{0,3}x[1-9]\\d{0,3}")) {
+			var parts = property.split("x");
+			levelPrinter.setViewport(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+		}
+		else if (level.getSize() > LevelEditorScreen.MAX_SIZE) {
+			levelPrinter.setViewport(LevelEditorScreen.MAX_SIZE, LevelEditorScreen.MAX_SIZE);
+		}
+	}
+
+	/**
+	 * A játékmenet, pl. a tesztekhez, hogy a parancsok hatása ellenőrizhető legyen
+	 */
+	GameSession getSession () {
+		return session;
 	}
 
 	public void setNumberOfMoves (int steps) {
-		numberOfMoves.set(steps);
+		session.setSteps(steps);
 	}
 
+	/**
+	 * A kimenet körönként egyszer kerül kiírásra, a parancs bekérése előtt,
+	 * a végén pedig akkor is, ha a játék kivétellel ér véget
+	 */
 	public void start () {
-		readCommands();
+		try {
+			readCommands();
+		}
+		finally {
+			printWrapper.flush();
+		}
 	}
 
 	protected void readCommands () {
 		log.info("Játék parancsok olvasásának kezdése");
 		log.debug("Pálya start hely: " + level.getStartPoint());
-		printWrapper.println("A játék elkezdődött\nJátékos: " + playerName);
-		printWrapper.println(GameplayCommands.getMenuText());
+		var intro = "A játék elkezdődött\nJátékos: " + playerName + "\n" + GameplayCommands.getMenuText();
+		if (!levelPrinter.isDiffRendering()) {
+			levelPrinter.setDiffRendering(intro, AnsiDiffRenderer.isSupported());
+		}
+		if (!levelPrinter.isDiffRendering()) {
+			printWrapper.println(intro);
+		}
 		var messageFromCommandProcessing = "A cél eljutni az aranyhoz, felvenni, és visszahozni ugyanide";
+		// az egy sorban megadott parancsok, ezek egymás után, kirajzolás nélkül futnak le
+		// ha az egyik hibát okoz, akkor a többi elmarad
+		var pendingCommands = new ArrayDeque<String>();
 		while (true) {
-			if (!hero.isAlive()) {
-				log.debug("A hős meghalt, megtett lépések száma: " + numberOfMoves.get());
-				printWrapper.printf("Sajnos meghalt a karaktered.\n%d lépést tettél meg.\n", numberOfMoves.get());
+			var state = session.getState();
+			if (state == GameState.Died) {
+				log.debug("A hős meghalt, megtett lépések száma: " + session.getSteps());
+				printWrapper.printf("Sajnos meghalt a karaktered.\n%d lépést tettél meg.\n", session.getSteps());
 				printWrapper.println("Nyomj meg egy billentyűt a folytatáshoz...");
+				printWrapper.flush();
 				consoleInputWrapper.readFromConsole();
 				shouldExit = true;
 			}
-			if (hero.hasItem(Items.Gold) && hero.getPosition().equals(level.getStartPoint())) {
-				log.debug("A hős nyert, pozíciója: {}, pálya start hely pozíciója: {}", hero.getPosition(), level.getStartPoint());
-				printWrapper.printf("Győztél, sikeresen visszahoztad az aranyat a kiindulási helyre\n Megtettél %d lépést.\n", numberOfMoves.get());
+			if (state == GameState.Won) {
+				log.debug("A hős nyert, pozíciója: {}, pálya start hely pozíciója: {}", session.getHero().getPosition(), level.getStartPoint());
+				printWrapper.printf("Győztél, sikeresen visszahoztad az aranyat a kiindulási helyre\n Megtettél %d lépést.\n", session.getSteps());
 				try {
 					log.debug("Eredmény mentése");
 					var repository = new JdbcGameStateRepository();
@@ -104,32 +149,59 @@ public class GameplayScreen extends Screen {
 				}
 				shouldExit = true;
 			}
+			if (state == GameState.GaveUp) {
+				shouldExit = true;
+			}
 			if (shouldExit) {
 				log.debug("shouldExit = " + shouldExit);
 				printWrapper.println("Kilépés a játékból...");
 				break;
 			}
-			numberOfMoves.getAndIncrement();
-			log.debug("Pálya kirajzolása");
-			levelPrinter.printLevel();
-			if (messageFromCommandProcessing != null) {
-				printWrapper.println(messageFromCommandProcessing);
-			}
-			log.debug("HUD kirajzolása");
-			levelPrinter.printHeroBar();
-			log.debug("Parancs kérése");
-			var command = consoleInputWrapper.requestUserInput().toLowerCase();
-			try {
-				inputHandler.handleInput(command);
-				messageFromCommandProcessing = null;
-			}
-			catch (NullPointerException e) {
-				log.error("Hiba a parancs feldolgozásakor: {}", e);
+			if (pendingCommands.isEmpty()) {
+				log.debug("Pálya kirajzolása");
+				levelPrinter.printLevel();
+				if (messageFromCommandProcessing != null) {
+					printWrapper.println(messageFromCommandProcessing);
+				}
+				log.debug("HUD kirajzolása");
+				levelPrinter.printHeroBar();
+				log.debug("Parancs kérése");
+				printWrapper.flush();
+				var line = consoleInputWrapper.requestUserInput();
+				try {
+					pendingCommands.addAll(session.getInputHandler().splitInput(line));
+				}
+				catch (RuntimeException e) {
+					messageFromCommandProcessing = e.getMessage();
+					continue;
+				}
 			}
-			catch (RuntimeException e) {
-				messageFromCommandProcessing = e.getMessage();
+			var outcome = session.step(pendingCommands.poll());
+			messageFromCommandProcessing = takeEventMessages(outcome.message());
+			if (!outcome.accepted()) {
+				pendingCommands.clear();
 			}
 //			EntityController.moveEntitesInRandomDirections(entityControllers);
 		}
 	}
+
+	/**
+	 * Az események üzenetei a parancs üzenete elé kerülnek, és ki is ürülnek
+	 * @param message a parancs üzenete, lehet null
+	 * @return a teljes üzenet, vagy null, ha nincs mit kiírni
+	 */
+	private String takeEventMessages (String message) {
+		if (eventMessages.isEmpty()) {
+			return message;
+		}
+		if (message == null) {
+			eventMessages.setLength(eventMessages.length() - 1);
+		}
+		else {
+			eventMessages.append(message);
+		}
+		var result = eventMessages.toString();
+		eventMessages.setLength(0);
+		return result;
+	}
 }
@@ -6,7 +6,11 @@ import hu.nye.pandragon.wumpus.model.Screen;
 import hu.nye.pandragon.wumpus.service.command.InputHandler;
 import hu.nye.pandragon.wumpus.service.command.impl.editor.*;
 import hu.nye.pandragon.wumpus.service.game.Level;
+import hu.nye.pandragon.wumpus.service.game.LevelValidator;
+import lombok.Getter;
+import lombok.Setter;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 
 /**
@@ -14,8 +18,29 @@ import java.util.Arrays;
  */
 public class LevelEditorScreen extends Screen {
 
+	/**
+	 * A pálya legkisebb mérete
+	 */
+	public static final int MIN_SIZE = 6;
+	/**
+	 * A pálya legnagyobb mérete normál módban
+	 */
+	public static final int MAX_SIZE = 20;
+	/**
+	 * A pálya legnagyobb mérete nagy pályás módban
+	 */
+	public static final int MAX_LARGE_SIZE = 4096;
+
 	private Level level;
+	/**
+	 * Nagy pályás mód, ekkor MAX_LARGE_SIZE méretű pálya is készíthető
+	 * Alapból a wumpus.largeMaps rendszertulajdonság dönti el
+	 */
+	@Getter
+	@Setter
+	private boolean largeMapMode = Boolean.getBoolean("wumpus.largeMaps");
 	private InputHandler inputHandler;
+	private EditorExitCommand exitCommand;
 
 	public LevelEditorScreen() {
 		printWrapper.println("Pályaszerkesztő");
@@ -27,21 +52,22 @@ public class LevelEditorScreen extends Screen {
 	 */
 	public void init () {
 		var size = requestMapSize();
+		if (size == -1) {
+			printWrapper.println("Kilépés a pályaszerkesztőből...");
+			shouldExit = true;
+			return;
+		}
 		level = new Level(size);
 		levelPrinter.setLevel(level);
+		exitCommand = new EditorExitCommand(this, level, new LevelValidator());
 		inputHandler = new InputHandler(Arrays.asList(
 				new EditorPlaceEntityCommand(level),
-				new EditorExitCommand(this),
+				exitCommand,
 				new EditorRotateCommand(level),
 				new EditorRemoveEntityCommand(level),
 				new EditorTestCommand(level)
 		));
-		inputHandler.setPrintWrapper(printWrapper);
 		level.setEditing(true);
-		if (size == -1) {
-			printWrapper.println("Kilépés a pályaszerkesztőből...");
-			shouldExit = true;
-		}
 	}
 
 	public void start () {
@@ -56,17 +82,18 @@ public class LevelEditorScreen extends Screen {
 	/**
 	 * Ez a metódus bekéri a pálya méretét a felhasználótól,
 	 * majd visszaadja egész száámmá alakítva
-	 * Csak 6 - 20 közötti értéket fogad el
+	 * Csak 6 - 20 közötti értéket fogad el, nagy pályás módban 6 - 4096 közöttit
 	 * @return a pálya mérete
 	 */
 	private int requestMapSize () {
+		var maxSize = largeMapMode ? MAX_LARGE_SIZE : MAX_SIZE;
 		while (true) {
 			printWrapper.print("Add meg a pálya oldalhosszát (-1 = kilépés a pályaszerkesztőből): ");
 			var value = consoleInputWrapper.readFromConsole();
 			try {
 				var i = Integer.parseInt(value);
-				if ((i < 6 || i > 20) && i != -1) {
-					printWrapper.println("A pálya mérete min 6, max 20 egység lehet");
+				if ((i < MIN_SIZE || i > maxSize) && i != -1) {
+					printWrapper.println(String.format("A pálya mérete min %d, max %d egység lehet", MIN_SIZE, maxSize));
 				}
 				else {
 					return i;
@@ -81,33 +108,55 @@ public class LevelEditorScreen extends Screen {
 	/**
 	 * Ez a metódus fogadja a parancsokat a felhasználótól
 	 * Egy végtelen while ciklus fut benne, amit a kilépés parancsa szakít meg
+	 * Egy sorban több parancs is megadható ';' jellel elválasztva
 	 */
 	protected void readCommands () {
 		printWrapper.println(LevelEditorCommands.getMenuText());
 		var messageFromProcessing = "Próbáld ki az egyik parancsot";
+		// az egy sorban megadott parancsok, ezek egymás után, kirajzolás nélkül futnak le
+		var pendingCommands = new ArrayDeque<String>();
 		while (true) {
 			if (shouldExit) {
-				if (level != null) {
+				if (exitCommand.isLevelRejected()) {
+					printWrapper.println("A pálya nem teljesíthető, ezért nem lett elmentve");
+				}
+				else if (level != null) {
 					printWrapper.println("Rendben, majd próbáld ki a pályát!");
 				}
 				break;
 			}
-			levelPrinter.printEditorLevel();
-			if (messageFromProcessing != null) {
-				printWrapper.println(messageFromProcessing);
+			if (pendingCommands.isEmpty()) {
+				levelPrinter.printEditorLevel();
+				if (messageFromProcessing != null) {
+					printWrapper.println(messageFromProcessing);
+				}
+				var line = consoleInputWrapper.requestUserInput();
+				try {
+					pendingCommands.addAll(inputHandler.splitInput(line));
+				}
+				catch (RuntimeException e) {
+					messageFromProcessing = e.getMessage();
+					continue;
+				}
 			}
-			var command = consoleInputWrapper.requestUserInput();
 			try {
-				inputHandler.handleInput(command);
-				messageFromProcessing = null;
+				messageFromProcessing = inputHandler.handleInput(pendingCommands.poll());
 			}
 			catch (RuntimeException e) {
 				messageFromProcessing = e.getMessage();
+				pendingCommands.clear();
 			}
 		}
 	}
 
+	/**
+	 * A szerkesztett pálya, vagy null, ha a felhasználó kilépett a méret megadása nélkül,
+	 * vagy nem teljesíthető pályával lépett ki
+	 */
 	public LevelVO getLevelVO () {
+		if (level == null || exitCommand.isLevelRejected()) {
+			return null;
+		}
 		return level.toLevelVO();
 	}
 }
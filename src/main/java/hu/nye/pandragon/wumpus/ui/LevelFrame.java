@@ -0,0 +1,80 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.service.game.Level;
+
+import java.util.Arrays;
+
+/**
+ * Ez az osztály a pálya teljes rajzát állítja elő egy újrahasznált karaktertömbbe
+ * A statikus pályaelemek rajzát a TerrainLayer-től veszi, erre teszi rá a lényeket és a kiindulási helyet
+ * Megjegyzi, melyik cellákra rajzolt az előző alkalommal, és legközelebb csak ezeket állítja vissza,
+ * így a statikus pályaelemek változása nélkül egy rajz a lények számától függ, és nem foglal új memóriát
+ * A pályát közvetlenül olvassa, nem készít róla LevelVO másolatot
+ */
+class LevelFrame {
+
+	private final Level level;
+	private final boolean editing;
+	private final TerrainLayer terrainLayer;
+	private final char[] frame;
+	/**
+	 * Az előző rajzon módosított cellák kezdete a rajzban
+	 */
+	private int[] overlaid;
+	private int overlaidCount;
+	/**
+	 * Melyik statikus állapot van a rajzban, -1, ha még semmi
+	 */
+	private int version = -1;
+
+	LevelFrame (Level level, boolean editing) {
+		this.level = level;
+		this.editing = editing;
+		terrainLayer = new TerrainLayer(level, editing);
+		frame = new char[terrainLayer.getLength()];
+		overlaid = new int[8];
+	}
+
+	boolean isFor (Level level, boolean editing) {
+		return terrainLayer.isFor(level, editing);
+	}
+
+	/**
+	 * Elkészíti a rajzot, és visszaadja
+	 * Mindig ugyanazt a tömböt adja vissza, ami a következő draw() hívásig érvényes
+	 * @return a rajz, a sorokat '\n' zárja le
+	 */
+	char[] draw () {
+		var terrain = terrainLayer.getChars();
+		if (version != level.getStaticVersion()) {
+			System.arraycopy(terrain, 0, frame, 0, frame.length);
+			version = level.getStaticVersion();
+		}
+		else {
+			for (int n = 0; n < overlaidCount; n++) {
+				var offset = overlaid[n];
+				frame[offset] = terrain[offset];
+				frame[offset + 1] = terrain[offset + 1];
+				frame[offset + 2] = terrain[offset + 2];
+			}
+		}
+		overlaidCount = 0;
+		for (int n = 0; n < level.getLivingEntityCount(); n++) {
+			var entity = level.getNthLivingEntity(n);
+			terrainLayer.drawLiving(frame, entity);
+			markOverlaid(terrainLayer.cellOffset(entity.getPosition().x(), entity.getPosition().y()));
+		}
+		var startpoint = level.getStartPoint();
+		if (!editing && terrainLayer.drawStartMarker(frame, startpoint)) {
+			markOverlaid(terrainLayer.cellOffset(startpoint.x(), startpoint.y()));
+		}
+		return frame;
+	}
+
+	private void markOverlaid (int offset) {
+		if (overlaidCount == overlaid.length) {
+			overlaid = Arrays.copyOf(overlaid, overlaidCount * 2);
+		}
+		overlaid[overlaidCount++] = offset;
+	}
+}
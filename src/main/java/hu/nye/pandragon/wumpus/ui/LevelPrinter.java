@@ -1,15 +1,13 @@
 package hu.nye.pandragon.wumpus.ui;
 
-import hu.nye.pandragon.wumpus.model.LevelVO;
-import hu.nye.pandragon.wumpus.model.WallShape;
 import hu.nye.pandragon.wumpus.model.entities.Hero;
-import hu.nye.pandragon.wumpus.model.entities.Wall;
 import hu.nye.pandragon.wumpus.service.game.Level;
+import hu.nye.pandragon.wumpus.service.util.CommandUtils;
+import lombok.Getter;
 import lombok.Setter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.awt.*;
 import java.util.stream.Collectors;
 
 public class LevelPrinter {
@@ -19,6 +17,29 @@ public class LevelPrinter {
 	private final PrintWrapper printWrapper;
 	@Setter
 	private Level level;
+	/**
+	 * Ha be van állítva, akkor a játék közbeni kiírás csak a változásokat küldi el
+	 */
+	private AnsiDiffRenderer diffRenderer;
+	/**
+	 * A legutóbbi rajz, ezt használja újra, amíg ugyanazt a pályát rajzolja ugyanabban a módban
+	 */
+	private LevelFrame levelFrame;
+	/**
+	 * Ha be van állítva, akkor a játék közben csak a hős körüli ablak jelenik meg
+	 */
+	private LevelViewport viewport;
+	/**
+	 * A rajzolás módja, alapból a cellánként 3 karakteres rajz
+	 */
+	@Getter
+	private RenderStyle renderStyle = RenderStyle.Normal;
+	/**
+	 * A minitérkép méretaránya, azaz hány cella oldalhosszú blokk lesz egy karakter
+	 */
+	@Getter
+	private int minimapScale = 4;
+	private CompactLevelRenderer compactRenderer;
 
 	public LevelPrinter(PrintWrapper printWrapper) {
 		this.printWrapper = printWrapper;
@@ -35,57 +56,95 @@ public class LevelPrinter {
 	 * hogy könnyebben azonosítható legyen egy pont a pályán
 	 */
 	public void printEditorLevel () {
-		printWrapper.println(drawLevel2(level.toLevelVO(), true));
+		printWrapper.println(renderStyle == RenderStyle.Normal ? drawLevel2(level, true) : drawCompact(true));
 	}
 
 	/**
 	 * Pálya kirajzolása és kiírása
+	 * Ha be van kapcsolva a különbségek kiírása, akkor csak a megváltozott cellák kerülnek ki
 	 */
 	public void printLevel () {
-		printWrapper.println(drawLevel2(level.toLevelVO(), false));
+		char[] drawing;
+		if (renderStyle != RenderStyle.Normal) {
+			drawing = drawCompact(false);
+		}
+		else if (viewport != null) {
+			drawing = viewport.draw(level, false);
+		}
+		else {
+			drawing = drawLevel2(level, false);
+		}
+		if (diffRenderer != null) {
+			diffRenderer.render(drawing);
+		}
+		else {
+			printWrapper.println(drawing);
+		}
 	}
 
 	/**
-	 * Kiírja a hős adatait a következő formában:
-	 * Hős: ikon | oszlop_betűje sor_száma |x nyíl | Tárgyak: ...
-	 * A tárgyakat csak akkor írja, ha vannak a hősnek
+	 * Be- vagy kikapcsolja a különbségek kiírását ANSI szekvenciákkal
+	 * @param header a pálya fölött megjelenő, nem változó szöveg
+	 * @param enabled be legyen-e kapcsolva
 	 */
-	public void printHeroBar () {
-		printWrapper.println(drawHeroBar(level.getHero()));
+	public void setDiffRendering (String header, boolean enabled) {
+		if (enabled) {
+			diffRenderer = new AnsiDiffRenderer(printWrapper);
+			diffRenderer.setHeader(header);
+		}
+		else {
+			diffRenderer = null;
+		}
+	}
+
+	/**
+	 * A rajzolás módjának kiválasztása
+	 * A tömör és a minitérképes rajz mindig a teljes pályát mutatja, az ablakos mód csak a normál rajzra vonatkozik
+	 * @param renderStyle a rajzolás módja
+	 */
+	public void setRenderStyle (RenderStyle renderStyle) {
+		this.renderStyle = renderStyle;
 	}
 
 	/**
-	 * Eldönti, hogy kell-e meghosszabbítani a falat a jobb oldalán
-	 * Erre akkor van szükség, ha a formája ezt indokolja,
-	 * azaz meg lehet hosszabbítani
-	 * Ez akkor történhet meg, amikor,
-	 * amikor nem formáz sarkot jobbra
-	 * @param wall a fal, aminek a hosszabbításáról döntünk
-	 * @return az eredmény, ami lehet '━' vagy ' '
-	 */
-	private char getWallRightExtensionSymbol (Wall wall) {
-		return switch (wall.getShape()) {
-			case Middle, Horizontal, HorizontalBottom, HorizontalTop, BottomLeft,
-					VerticalRight, TopLeft, Single -> WallShape.Horizontal.getSymbol();
-			default -> ' ';
-		};
+	 * A minitérkép méretarányának beállítása
+	 * @param minimapScale hány cella oldalhosszú blokk lesz egy karakter, legalább 2
+	 */
+	public void setMinimapScale (int minimapScale) {
+		if (minimapScale < 2) {
+			throw new IllegalArgumentException("A minitérkép méretaránya legalább 2 lehet");
+		}
+		this.minimapScale = minimapScale;
 	}
 
 	/**
-	 * Eldönti, hogy kell-e meghosszabbítani a falat a bal oldalán
-	 * Erre akkor van szükség, ha a formája ezt indokolja,
-	 * azaz meg lehet hosszabbítani
-	 * Ez akkor történhet meg, amikor,
-	 * amikor nem formáz sarkot balra
-	 * @param wall a fal, aminek a hosszabbításáról döntünk
-	 * @return az eredmény, ami lehet '━' vagy ' '
-	 */
-	private char getWallLeftExtensionSymbol (Wall wall) {
-		return switch (wall.getShape()) {
-			case Middle, Horizontal, HorizontalBottom, HorizontalTop, BottomRight,
-					VerticalLeft, TopRight, Single -> WallShape.Horizontal.getSymbol();
-			default -> ' ';
-		};
+	 * Bekapcsolja az ablakos módot: játék közben a pályának csak egy,
+	 * a hős körüli width x height méretű része jelenik meg
+	 * @param width az ablak szélessége cellákban
+	 * @param height az ablak magassága cellákban
+	 */
+	public void setViewport (int width, int height) {
+		viewport = new LevelViewport(width, height);
+	}
+
+	/**
+	 * Kikapcsolja az ablakos módot, ezután újra a teljes pálya jelenik meg
+	 */
+	public void clearViewport () {
+		viewport = null;
+	}
+
+	public boolean isDiffRendering () {
+		return diffRenderer != null;
+	}
+
+	/**
+	 * Kiírja a hős adatait a következő formában:
+	 * Hős: ikon | oszlop_betűje sor_száma |x nyíl | Tárgyak: ...
+	 * A tárgyakat csak akkor írja, ha vannak a hősnek
+	 */
+	public void printHeroBar () {
+		printWrapper.println(drawHeroBar(level.getHero()));
 	}
 
 	/**
@@ -103,8 +162,8 @@ public class LevelPrinter {
 		var barText = String.format(
 				"Hős: %c | %s %d | %d nyíl",
 				hero.getDisplaySymbol(),
-				(char) (hero.getPosition().x + 64),
-				hero.getPosition().y,
+				CommandUtils.getColumnLabel(hero.getPosition().x()),
+				hero.getPosition().y(),
 				hero.getAmmoAmount());
 		if (!hero.getInventory().isEmpty()) {
 			barText = String.format("%s | Tárgyak: %s", barText,
@@ -116,78 +175,33 @@ public class LevelPrinter {
 	}
 
 	/**
-	 * Kirajzolja a pályát, és visszaadja a rajzot
-	 * @param levelVO a pálya
+	 * Tömör vagy minitérképes rajz, a kiválasztott módtól függően
 	 * @param isEditing szerkesztés közben van-e
 	 * @return a pályáról készült rajz
 	 */
-	private String drawLevel2 (LevelVO levelVO, boolean isEditing) {
-		var drawing = new StringBuilder();
-		var size = levelVO.getSize();
-		var staticEntities = levelVO.getStaticEntities();
-		var livingEntities = levelVO.getLivingEntities();
-		var startpoint = levelVO.getStartpoint();
-		drawing.append("    ");
-		for (int i = 0; i < size; i++) {
-			drawing.append(' ').append((char) (65 + i)).append(' ');
+	private char[] drawCompact (boolean isEditing) {
+		var scale = renderStyle == RenderStyle.Compact ? 1 : minimapScale;
+		if (compactRenderer == null || compactRenderer.getScale() != scale) {
+			compactRenderer = new CompactLevelRenderer(scale);
 		}
-		drawing.setLength(drawing.length() - 1);
-		drawing.append('\n');
-		var gettingpoint = new Point(0, 0);
-		for (int y = 1; y <= size; y++) {
-			drawing.append(String.format(" %2d ", y));
-			for (int x = 1; x <= size; x++) {
-				gettingpoint.setLocation(x, y);
-				var livingEntity = livingEntities.get(gettingpoint);
-//				logger.debug(String.format("  -> %2d %2d %s", j, i, (entity == null ? "null" : entity.getName())));
-				var staticEntity = staticEntities.get(gettingpoint);
-//				logger.debug(String.format(" ==> %2d %2d %s", j, i, (entity == null ? "null" : entity.getName())));
-				char left = ' ', middle = ' ', right = ' ';
-				if (staticEntity == null && livingEntity == null) {
-					middle = isEditing ? '•' : ' ';
-					if (!isEditing && gettingpoint.equals(startpoint)) {
-						left = '>';
-						right = '<';
-					}
-				}
-				else if (staticEntity != null) {
-					if (staticEntity instanceof Wall wall) {
-						left = getWallLeftExtensionSymbol(wall);
-						middle = wall.getDisplaySymbol();
-						right = getWallRightExtensionSymbol(wall);
-					}
-					else if (staticEntity.shouldExtendInCell()) {
-						left = staticEntity.getDisplaySymbol();
-						middle = left;
-						if (livingEntity != null) {
-							middle = livingEntity.getDisplaySymbol();
-						}
-						right = left;
-					}
-					else if (livingEntity != null) {
-						left = livingEntity.getDisplaySymbol();
-						middle = staticEntity.getDisplaySymbol();
-					}
-					else {
-						middle = staticEntity.getDisplaySymbol();
-					}
-				}
-				else if (livingEntity != null) {
-					middle = livingEntity.getDisplaySymbol();
-					if (!isEditing && gettingpoint.equals(startpoint)) {
-						left = '>';
-						right = '<';
-					}
-				}
-				else {
-					LOGGER.debug("else: point: {}", gettingpoint);
-				}
-				drawing.append(left).append(middle).append(right);
-			}
-			drawing.setLength(drawing.length() - 1);
-			drawing.append('\n');
+		return compactRenderer.draw(level, isEditing);
+	}
+
+	/**
+	 * Kirajzolja a pályát, és visszaadja a rajzot
+	 * A statikus pályaelemek rajzát a TerrainLayer tárolja, ezt csak akkor készíti el újra,
+	 * ha azok megváltoztak, erre csak a lények és a kiindulási hely jele kerül rá
+	 * A rajz mindig ugyanabba a tömbbe készül, ami a következő rajzolásig érvényes
+	 * A cellákat közvetlenül a pályából olvassa, nem készít róla másolatot
+	 * @param level a pálya
+	 * @param isEditing szerkesztés közben van-e
+	 * @return a pályáról készült rajz
+	 */
+	private char[] drawLevel2 (Level level, boolean isEditing) {
+		if (levelFrame == null || !levelFrame.isFor(level, isEditing)) {
+			levelFrame = new LevelFrame(level, isEditing);
 		}
-		return drawing.toString();
+		return levelFrame.draw();
 	}
 
 }
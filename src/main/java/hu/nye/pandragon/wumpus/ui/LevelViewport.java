@@ -0,0 +1,102 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.service.game.Level;
+
+/**
+ * Ez az osztály a pályának csak egy, a hős körüli ablakát rajzolja ki
+ * Az ablak a hőst középen tartja, de nem lóg ki a pályáról, így a pálya szélén a hős a széle felé kerül
+ * A fejlécben és a sorok elején a pálya valódi oszlop- és sorazonosítói vannak
+ * Egy rajz költsége az ablak méretétől függ, nem a pályáétól
+ * Ha az ablak nagyobb a pályánál, akkor a rajz ugyanaz, mint a teljes pálya rajza
+ */
+class LevelViewport {
+
+	private final int width;
+	private final int height;
+	private char[] frame;
+	/**
+	 * Az ablak bal felső cellája a legutóbbi rajzon
+	 */
+	private int left;
+	private int top;
+
+	/**
+	 * @param width az ablak szélessége cellákban
+	 * @param height az ablak magassága cellákban
+	 */
+	LevelViewport (int width, int height) {
+		if (width < 1 || height < 1) {
+			throw new IllegalArgumentException("Az ablak mérete legalább 1 x 1 cella lehet");
+		}
+		this.width = width;
+		this.height = height;
+	}
+
+	int getLeft () {
+		return left;
+	}
+
+	int getTop () {
+		return top;
+	}
+
+	/**
+	 * Kirajzolja a pálya hős körüli ablakát
+	 * Ha nincs hős a pályán, akkor a kiindulási hely, ha az sincs, akkor a pálya közepe kerül középre
+	 * A tömböt újra felhasználja, ha a mérete nem változik
+	 * @param level a pálya
+	 * @param isEditing szerkesztés közben van-e
+	 * @return a rajz, a sorokat '\n' zárja le
+	 */
+	char[] draw (Level level, boolean isEditing) {
+		var size = level.getSize();
+		var hero = level.getHero();
+		var startpoint = level.getStartPoint();
+		int centerX = (size + 1) / 2, centerY = (size + 1) / 2;
+		if (hero != null) {
+			centerX = hero.getPosition().x();
+			centerY = hero.getPosition().y();
+		}
+		else if (startpoint.x() > 0) {
+			centerX = startpoint.x();
+			centerY = startpoint.y();
+		}
+		var columns = Math.min(width, size);
+		var rows = Math.min(height, size);
+		left = clamp(centerX - columns / 2, size - columns + 1);
+		top = clamp(centerY - rows / 2, size - rows + 1);
+
+		var prefixWidth = TerrainLayer.getPrefixWidth(size);
+		var header = TerrainLayer.drawHeader(prefixWidth, left, columns);
+		var lineLength = prefixWidth + 3 * columns - 1;
+		var length = header.length() + 1 + rows * (lineLength + 1);
+		if (frame == null || frame.length != length) {
+			frame = new char[length];
+		}
+		header.getChars(0, header.length(), frame, 0);
+		frame[header.length()] = '\n';
+		var offset = header.length() + 1;
+		for (int y = top; y < top + rows; y++) {
+			var label = String.valueOf(y);
+			var labelStart = offset + prefixWidth - 1 - label.length();
+			for (int i = offset; i < offset + prefixWidth; i++) {
+				frame[i] = ' ';
+			}
+			label.getChars(0, label.length(), frame, labelStart);
+			offset += prefixWidth;
+			for (int x = left; x < left + columns; x++) {
+				var isStart = x == startpoint.x() && y == startpoint.y();
+				TerrainLayer.drawCell(frame, offset, level.getStaticEntity(x, y), level.getLivingEntity(x, y),
+						isEditing, isStart, x == left + columns - 1);
+				offset += 3;
+			}
+			offset--;
+			frame[offset++] = '\n';
+		}
+		return frame;
+	}
+
+	private static int clamp (int value, int max) {
+		return Math.max(1, Math.min(value, max));
+	}
+}
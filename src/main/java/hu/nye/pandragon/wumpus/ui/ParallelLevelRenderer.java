@@ -0,0 +1,124 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.model.Position;
+import hu.nye.pandragon.wumpus.service.game.Level;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ez az osztály a teljes pályát több szálon rajzolja ki, pl. nagy pályák pillanatképeinek exportálásához
+ * A pálya sorait sávokra bontja, és a sávokat egy ForkJoinPool szálai rajzolják ki
+ * Mivel minden sor hossza előre ismert, a sávok közvetlenül a közös tömb saját részébe írnak,
+ * így az összefűzéshez nem kell másolni
+ * Az eredmény karakterre pontosan ugyanaz, mint a LevelPrinter rajza
+ * Rajzolás közben a pályát nem szabad módosítani
+ */
+public class ParallelLevelRenderer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ParallelLevelRenderer.class);
+
+	private final ForkJoinPool pool;
+	/**
+	 * Legfeljebb ennyi sort rajzol ki egy feladat, a nagyobb sávokat kettéosztja
+	 */
+	private final int bandHeight;
+
+	public ParallelLevelRenderer () {
+		this(ForkJoinPool.commonPool(), 32);
+	}
+
+	public ParallelLevelRenderer (ForkJoinPool pool, int bandHeight) {
+		if (bandHeight < 1) {
+			throw new IllegalArgumentException("A sávok magassága legalább 1 sor lehet");
+		}
+		this.pool = pool;
+		this.bandHeight = bandHeight;
+	}
+
+	/**
+	 * Kirajzolja a teljes pályát
+	 * @param level a pálya
+	 * @param isEditing szerkesztés közbeni rajz legyen-e
+	 * @return a rajz, a sorokat '\n' zárja le
+	 */
+	public char[] render (Level level, boolean isEditing) {
+		var size = level.getSize();
+		var prefixWidth = TerrainLayer.getPrefixWidth(size);
+		var header = TerrainLayer.drawHeader(prefixWidth, 1, size);
+		var lineLength = prefixWidth + 3 * size - 1;
+		var frame = new char[header.length() + 1 + size * (lineLength + 1)];
+		header.getChars(0, header.length(), frame, 0);
+		frame[header.length()] = '\n';
+		var band = new Band(level, isEditing, frame, header.length() + 1, prefixWidth, lineLength, 1, size + 1);
+		LOGGER.debug("Pálya kirajzolása párhuzamosan, méret: {}, szálak: {}", size, pool.getParallelism());
+		pool.invoke(band);
+		return frame;
+	}
+
+	public String renderToString (Level level, boolean isEditing) {
+		return new String(render(level, isEditing));
+	}
+
+	/**
+	 * A pálya sorainak egy sávja, a [fromRow, toRow) sorok
+	 */
+	private class Band extends RecursiveAction {
+
+		private final Level level;
+		private final boolean editing;
+		private final char[] frame;
+		private final int firstRowOffset;
+		private final int prefixWidth;
+		private final int lineLength;
+		private final int fromRow;
+		private final int toRow;
+
+		Band (Level level, boolean editing, char[] frame, int firstRowOffset, int prefixWidth, int lineLength,
+				int fromRow, int toRow) {
+			this.level = level;
+			this.editing = editing;
+			this.frame = frame;
+			this.firstRowOffset = firstRowOffset;
+			this.prefixWidth = prefixWidth;
+			this.lineLength = lineLength;
+			this.fromRow = fromRow;
+			this.toRow = toRow;
+		}
+
+		@Override
+		protected void compute () {
+			if (toRow - fromRow <= bandHeight) {
+				drawRows();
+				return;
+			}
+			var middle = (fromRow + toRow) >>> 1;
+			invokeAll(
+					new Band(level, editing, frame, firstRowOffset, prefixWidth, lineLength, fromRow, middle),
+					new Band(level, editing, frame, firstRowOffset, prefixWidth, lineLength, middle, toRow));
+		}
+
+		private void drawRows () {
+			var size = level.getSize();
+			Position startpoint = level.getStartPoint();
+			for (int y = fromRow; y < toRow; y++) {
+				var offset = firstRowOffset + (y - 1) * (lineLength + 1);
+				var label = String.valueOf(y);
+				for (int i = offset; i < offset + prefixWidth; i++) {
+					frame[i] = ' ';
+				}
+				label.getChars(0, label.length(), frame, offset + prefixWidth - 1 - label.length());
+				offset += prefixWidth;
+				for (int x = 1; x <= size; x++) {
+					var isStart = x == startpoint.x() && y == startpoint.y();
+					TerrainLayer.drawCell(frame, offset, level.getStaticEntity(x, y), level.getLivingEntity(x, y),
+							editing, isStart, x == size);
+					offset += 3;
+				}
+				frame[offset - 1] = '\n';
+			}
+		}
+	}
+}
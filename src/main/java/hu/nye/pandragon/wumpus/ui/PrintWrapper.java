@@ -14,7 +14,22 @@ public class PrintWrapper {
 		System.out.println(s);
 	}
 
+	/**
+	 * Karaktertömb kiírása, így a kiíráshoz nem kell belőle szöveget készíteni
+	 * @param chars a kiírandó karakterek
+	 */
+	public void println (char[] chars) {
+		System.out.println(chars);
+	}
+
 	public void printf (String format, Object ...objects) {
 		System.out.printf(format, objects);
 	}
+
+	/**
+	 * Kiírja az addig összegyűjtött kimenetet
+	 * Ez a változat mindent azonnal kiír, így itt nincs teendő, a pufferelt változat használja
+	 */
+	public void flush () {
+	}
 }
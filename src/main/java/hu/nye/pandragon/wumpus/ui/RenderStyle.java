@@ -0,0 +1,19 @@
+package hu.nye.pandragon.wumpus.ui;
+
+/**
+ * A pálya kirajzolásának módjai
+ */
+public enum RenderStyle {
+	/**
+	 * Cellánként 3 karakter, a falak folytatásával, oszlop- és sorazonosítókkal
+	 */
+	Normal,
+	/**
+	 * Cellánként 1 karakter, azonosítók nélkül
+	 */
+	Compact,
+	/**
+	 * K x K cellánként 1 karakter, a blokkban lévő legfontosabb pályaelem jele
+	 */
+	Minimap
+}
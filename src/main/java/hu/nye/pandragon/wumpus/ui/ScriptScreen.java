@@ -0,0 +1,216 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.model.GameState;
+import hu.nye.pandragon.wumpus.model.Items;
+import hu.nye.pandragon.wumpus.model.LevelEditorCommands;
+import hu.nye.pandragon.wumpus.model.LevelVO;
+import hu.nye.pandragon.wumpus.model.Screen;
+import hu.nye.pandragon.wumpus.model.ScriptResult;
+import hu.nye.pandragon.wumpus.service.command.InputHandler;
+import hu.nye.pandragon.wumpus.service.command.impl.UnknownCommand;
+import hu.nye.pandragon.wumpus.service.command.impl.editor.EditorExitCommand;
+import hu.nye.pandragon.wumpus.service.command.impl.editor.EditorPlaceEntityCommand;
+import hu.nye.pandragon.wumpus.service.command.impl.editor.EditorRemoveEntityCommand;
+import hu.nye.pandragon.wumpus.service.command.impl.editor.EditorRotateCommand;
+import hu.nye.pandragon.wumpus.service.game.GameSession;
+import hu.nye.pandragon.wumpus.service.game.Level;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ez a képernyő egy parancsfájlt futtat le, felhasználói bemenet nélkül
+ * A parancsok ugyanazok, mint a pályaszerkesztőben és a játékban
+ * Ha a képernyő egy pályamérettel indul, akkor előbb a pályaszerkesztő parancsai jönnek,
+ * a 'teszt' parancs után pedig a játéké, ugyanúgy, mint a pályaszerkesztőben
+ * Ha egy kész pályával indul, akkor rögtön a játék parancsai jönnek
+ * Egy sorban több parancs is lehet ';' jellel elválasztva, és a parancsok ismételhetők, pl. 'lép 5'
+ * Az üres és a # jellel kezdődő sorok kimaradnak
+ * Alapból nincs kiírás, a pálya sem rajzolódik ki, a végén a getResult() adja vissza az eredményt
+ * A játék mentése és az eredmény adatbázisba írása itt nem érhető el
+ */
+@Slf4j
+public class ScriptScreen extends Screen {
+
+	private final List<String> lines;
+	private final List<String> errors;
+	private Level level;
+	/**
+	 * A játékmenet, a 'teszt' parancs után, vagy kész pályánál rögtön jön létre
+	 */
+	private GameSession session;
+	/**
+	 * A pályaszerkesztő parancsai, a játék parancsait a GameSession kezeli
+	 */
+	private InputHandler inputHandler;
+	private boolean editing;
+	/**
+	 * Kirajzolja-e a pályát minden parancs után
+	 */
+	@Getter
+	@Setter
+	private boolean rendering;
+	private int executedCommands;
+	/**
+	 * A parancsfájl éppen futó sorának száma, 1-től kezdődik
+	 */
+	private int lineNumber;
+	@Getter
+	private ScriptResult result;
+
+	/**
+	 * Új pálya készítése a parancsfájlból, a pályaszerkesztő parancsaival
+	 * @param size a pálya mérete
+	 * @param lines a parancsfájl sorai
+	 */
+	public ScriptScreen (int size, List<String> lines) {
+		this.lines = lines;
+		errors = new ArrayList<>();
+		level = new Level(size);
+		level.setEditing(true);
+		editing = true;
+		inputHandler = createEditorInputHandler();
+	}
+
+	/**
+	 * A játék parancsainak futtatása egy kész pályán
+	 * @param levelVO a pálya
+	 * @param lines a parancsfájl sorai
+	 */
+	public ScriptScreen (LevelVO levelVO, List<String> lines) {
+		this.lines = lines;
+		errors = new ArrayList<>();
+		startGame(levelVO);
+	}
+
+	@Override
+	public void start () {
+		try {
+			readCommands();
+		}
+		finally {
+			printWrapper.flush();
+		}
+	}
+
+	/**
+	 * A parancsfájl sorainak futtatása, amíg el nem fogynak, vagy véget nem ér a játék
+	 */
+	@Override
+	protected void readCommands () {
+		log.info("Parancsfájl futtatása, sorok száma: {}", lines.size());
+		for (lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+			if (shouldExit || getState().isFinished()) {
+				break;
+			}
+			var executedBefore = executedCommands;
+			for (String input : InputHandler.splitCommands(lines.get(lineNumber - 1))) {
+				if (input.startsWith("#") || shouldExit || getState().isFinished()) {
+					break;
+				}
+				try {
+					var handler = editing ? inputHandler : session.getInputHandler();
+					for (String command : handler.expandRepeat(input)) {
+						if (shouldExit || getState().isFinished()) {
+							break;
+						}
+						execute(command);
+					}
+				}
+				catch (RuntimeException e) {
+					addError(e.getMessage());
+				}
+			}
+			if (rendering && executedCommands > executedBefore) {
+				render();
+			}
+		}
+		var hero = session != null ? session.getHero() : null;
+		result = new ScriptResult(getState(), session != null ? session.getSteps() : 0, executedCommands,
+				hero != null ? hero.getPosition() : null,
+				hero != null && hero.hasItem(Items.Gold),
+				List.copyOf(errors));
+		log.info("Parancsfájl lefutott, állapot: {}, lépések: {}", result.state(), result.steps());
+	}
+
+	/**
+	 * Egy parancs futtatása, a hibát a hibák közé teszi
+	 * @param command a parancs
+	 */
+	private void execute (String command) {
+		executedCommands++;
+		if (!editing) {
+			var outcome = session.step(command);
+			if (!outcome.accepted() && outcome.message() != null) {
+				addError(outcome.message());
+			}
+			return;
+		}
+		try {
+			if (LevelEditorCommands.Test.matches(command).canBeProcessed()) {
+				startGame(level.toLevelVO());
+			}
+			else {
+				var message = inputHandler.handleInput(command);
+				if (message != null) {
+					addError(message);
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			addError(e.getMessage());
+		}
+	}
+
+	/**
+	 * A játék állapota, a szerkesztés alatt Editing, utána a GameSession állapota
+	 * A pályaszerkesztő kész parancsa után a futás véget ér, de a játék nem kezdődik el
+	 */
+	private GameState getState () {
+		return editing ? GameState.Editing : session.getState();
+	}
+
+	/**
+	 * Átlépés a játékba, a pálya egy új példányával, ahogy a pályaszerkesztő teszt parancsa is teszi
+	 * @param levelVO a pálya
+	 */
+	private void startGame (LevelVO levelVO) {
+		session = new GameSession(levelVO);
+		level = session.getLevel();
+		editing = false;
+		levelPrinter.setLevel(level);
+	}
+
+	private InputHandler createEditorInputHandler () {
+		levelPrinter.setLevel(level);
+		return new InputHandler(Arrays.asList(
+				new EditorPlaceEntityCommand(level),
+				new EditorExitCommand(this),
+				new EditorRotateCommand(level),
+				new EditorRemoveEntityCommand(level)
+		), new UnknownCommand());
+	}
+
+	private void addError (String message) {
+		var error = lineNumber + ". sor: " + message;
+		log.debug("Hibás parancs, {}", error);
+		errors.add(error);
+		if (rendering) {
+			printWrapper.println(error);
+		}
+	}
+
+	private void render () {
+		if (editing) {
+			levelPrinter.printEditorLevel();
+		}
+		else {
+			levelPrinter.printLevel();
+			levelPrinter.printHeroBar();
+		}
+	}
+}
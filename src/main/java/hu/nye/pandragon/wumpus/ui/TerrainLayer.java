@@ -0,0 +1,294 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.model.Position;
+import hu.nye.pandragon.wumpus.model.WallShape;
+import hu.nye.pandragon.wumpus.model.entities.Entity;
+import hu.nye.pandragon.wumpus.model.entities.LivingEntity;
+import hu.nye.pandragon.wumpus.model.entities.Wall;
+import hu.nye.pandragon.wumpus.service.game.Level;
+import hu.nye.pandragon.wumpus.service.util.CommandUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ez az osztály a pálya rajzának azt a részét tárolja, ami csak a statikus pályaelemektől függ:
+ * a fejlécet, a sorok számait, a falakat, vermeket és az aranyat
+ * Ezek ritkán változnak, így nem kell minden kiírásnál újra kirajzolni őket,
+ * csak ha a pálya statikus pályaelemei megváltoztak
+ * A lényeket és a kiindulási hely jelét a kész rajzra kell rátenni a drawLiving() és drawStartMarker() metódusokkal
+ * A rajz egy karaktertömb, a sorokat '\n' zárja le, ugyanúgy, ahogy a kiírt szövegben
+ */
+class TerrainLayer {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TerrainLayer.class);
+
+	private final Level level;
+	private final boolean editing;
+	private final int size;
+	/**
+	 * A sorok elején lévő rész szélessége, azaz a sorszám és a körülötte lévő szóközök
+	 */
+	private final int prefixWidth;
+	/**
+	 * Egy pályasor hossza a '\n' nélkül
+	 */
+	private final int lineLength;
+	/**
+	 * Az oszlopok fejléce és a sorok számai csak a pálya méretétől függnek,
+	 * így ezek egyszer készülnek el, és minden újrarajzoláskor csak átmásolódnak
+	 */
+	private final char[] header;
+	private final char[] rowLabels;
+	private final int headerLength;
+	private char[] terrain;
+	/**
+	 * Melyik statikus állapotból készült a rajz, -1, ha még nem készült el
+	 */
+	private int version = -1;
+
+	TerrainLayer (Level level, boolean editing) {
+		this.level = level;
+		this.editing = editing;
+		this.size = level.getSize();
+		prefixWidth = getPrefixWidth(size);
+		lineLength = prefixWidth + 3 * size - 1;
+		header = drawHeader(prefixWidth, 1, size).toCharArray();
+		headerLength = header.length;
+		rowLabels = drawRowLabels();
+	}
+
+	/**
+	 * A rajz teljes hossza karakterekben, a sorvégekkel együtt
+	 */
+	int getLength () {
+		return headerLength + 1 + size * (lineLength + 1);
+	}
+
+	boolean isFor (Level level, boolean editing) {
+		return this.level == level && this.editing == editing;
+	}
+
+	/**
+	 * A statikus pályaelemek rajza, ha közben változtak, akkor előbb újra elkészíti
+	 * Az újrarajzolás ugyanabba a tömbbe történik, a visszaadott tömböt nem szabad módosítani
+	 * @return a rajz
+	 */
+	char[] getChars () {
+		if (version != level.getStaticVersion()) {
+			draw();
+		}
+		return terrain;
+	}
+
+	/**
+	 * Egy cella első karakterének helye a rajzban
+	 * @param x oszlop
+	 * @param y sor
+	 * @return a karakter indexe
+	 */
+	int cellOffset (int x, int y) {
+		return headerLength + 1 + (y - 1) * (lineLength + 1) + prefixWidth + (x - 1) * 3;
+	}
+
+	/**
+	 * Ráteszi a lényt a rajzra
+	 * Falon nem jelenik meg, veremben középen, az arany mellett pedig balra kerül
+	 * @param frame a rajz, ami a getChars() másolata
+	 * @param entity a lény
+	 */
+	void drawLiving (char[] frame, LivingEntity entity) {
+		var position = entity.getPosition();
+		var staticEntity = level.getStaticEntity(position.x(), position.y());
+		var offset = cellOffset(position.x(), position.y());
+		drawCell(frame, offset, staticEntity, entity, editing, false, position.x() == size);
+	}
+
+	/**
+	 * Ráteszi a kiindulási hely jelét a rajzra, ha ott nincs statikus pályaelem
+	 * @param frame a rajz, ami a getChars() másolata
+	 * @param startpoint a kiindulási hely
+	 * @return true, ha rákerült a jel a rajzra
+	 */
+	boolean drawStartMarker (char[] frame, Position startpoint) {
+		var x = startpoint.x();
+		var y = startpoint.y();
+		if (x < 1 || y < 1 || x >= size || y > size || level.getStaticEntity(x, y) != null) {
+			return false;
+		}
+		var offset = cellOffset(x, y);
+		frame[offset] = '>';
+		frame[offset + 2] = '<';
+		return true;
+	}
+
+	private void draw () {
+		LOGGER.debug("Statikus pályaelemek kirajzolása, méret: {}", size);
+		if (terrain == null) {
+			terrain = new char[getLength()];
+		}
+		System.arraycopy(header, 0, terrain, 0, headerLength);
+		terrain[headerLength] = '\n';
+		for (int y = 1; y <= size; y++) {
+			var rowStart = cellOffset(1, y) - prefixWidth;
+			System.arraycopy(rowLabels, (y - 1) * prefixWidth, terrain, rowStart, prefixWidth);
+			for (int x = 1; x <= size; x++) {
+				drawStatic(cellOffset(x, y), level.getStaticEntity(x, y), x == size);
+			}
+			terrain[rowStart + lineLength] = '\n';
+		}
+		version = level.getStaticVersion();
+	}
+
+	/**
+	 * A sorok elején lévő rész szélessége: a sorszám, legalább 2 számjegyen, és előtte, utána egy szóköz
+	 * @param size a pálya mérete
+	 * @return a szélesség karakterekben
+	 */
+	static int getPrefixWidth (int size) {
+		return Math.max(2, String.valueOf(size).length()) + 2;
+	}
+
+	/**
+	 * A pálya fölötti fejléc, azaz az oszlopok azonosítói
+	 * Minden azonosító a saját oszlopának 3 karakterén van, így a rajz és a fejléc mindig egymás alatt marad
+	 * A háromjegyű azonosítók (702. oszlop után) kitöltenék a 3 karaktert, és összefolynának,
+	 * ezért ha ilyen is van, akkor a fejléc két sor: a páratlan oszlopoké felül, a párosaké alul,
+	 * így két azonosító között mindig van legalább 3 szóköz
+	 * A sorok végéről a szóköz lemarad, ahogy a pálya sorainak végéről is
+	 * @param prefixWidth a sorok elején lévő rész szélessége
+	 * @param firstColumn az első oszlop
+	 * @param columns az oszlopok száma
+	 * @return a fejléc, az utolsó sorvége nélkül
+	 */
+	static String drawHeader (int prefixWidth, int firstColumn, int columns) {
+		var lastColumn = firstColumn + columns - 1;
+		if (CommandUtils.getColumnLabel(lastColumn).length() < 3) {
+			return drawHeaderLine(prefixWidth, firstColumn, lastColumn, -1);
+		}
+		return drawHeaderLine(prefixWidth, firstColumn, lastColumn, 1) + '\n'
+				+ drawHeaderLine(prefixWidth, firstColumn, lastColumn, 0);
+	}
+
+	/**
+	 * A fejléc egy sora
+	 * @param parity csak azok az oszlopok kapnak azonosítót, amelyek száma 2-vel osztva ennyi maradékot ad,
+	 *               -1 esetén mindegyik
+	 */
+	private static String drawHeaderLine (int prefixWidth, int firstColumn, int lastColumn, int parity) {
+		var b = new StringBuilder(" ".repeat(prefixWidth));
+		for (int x = firstColumn; x <= lastColumn; x++) {
+			b.append(parity == -1 || x % 2 == parity ? getColumnHeader(x) : "   ");
+		}
+		var end = b.length();
+		while (end > 0 && b.charAt(end - 1) == ' ') {
+			end--;
+		}
+		b.setLength(end);
+		return b.toString();
+	}
+
+	private char[] drawRowLabels () {
+		var labels = new char[size * prefixWidth];
+		var rowLabelFormat = " %" + (prefixWidth - 2) + "d ";
+		for (int y = 1; y <= size; y++) {
+			String.format(rowLabelFormat, y).getChars(0, prefixWidth, labels, (y - 1) * prefixWidth);
+		}
+		return labels;
+	}
+
+	private void drawStatic (int offset, Entity staticEntity, boolean lastColumn) {
+		drawCell(terrain, offset, staticEntity, null, editing, false, lastColumn);
+	}
+
+	/**
+	 * Egy cella három karakterének kirajzolása
+	 * A fal két oldalán a fal folytatása lehet, a verem kitölti a cellát, és a benne lévő lény középre kerül,
+	 * más statikus pályaelem mellett a lény balra kerül
+	 * @param target ebbe a tömbbe rajzol
+	 * @param offset a cella első karakterének helye
+	 * @param staticEntity a cellán lévő statikus pályaelem, vagy null
+	 * @param livingEntity a cellán lévő lény, vagy null
+	 * @param editing szerkesztés közben az üres cellák közepén egy pont van
+	 * @param isStart ez-e a kiindulási hely, akkor a '>' és '<' jelek közé kerül
+	 * @param lastColumn az utolsó oszlop jobb oldali karaktere nem kerül ki
+	 */
+	static void drawCell (char[] target, int offset, Entity staticEntity, LivingEntity livingEntity,
+			boolean editing, boolean isStart, boolean lastColumn) {
+		char left = ' ', middle = ' ', right = ' ';
+		if (staticEntity == null) {
+			middle = livingEntity != null ? livingEntity.getDisplaySymbol() : editing ? '•' : ' ';
+			if (!editing && isStart) {
+				left = '>';
+				right = '<';
+			}
+		}
+		else if (staticEntity instanceof Wall wall) {
+			left = getWallLeftExtensionSymbol(wall);
+			middle = wall.getDisplaySymbol();
+			right = getWallRightExtensionSymbol(wall);
+		}
+		else if (staticEntity.shouldExtendInCell()) {
+			left = staticEntity.getDisplaySymbol();
+			middle = livingEntity != null ? livingEntity.getDisplaySymbol() : left;
+			right = left;
+		}
+		else {
+			left = livingEntity != null ? livingEntity.getDisplaySymbol() : ' ';
+			middle = staticEntity.getDisplaySymbol();
+		}
+		target[offset] = left;
+		target[offset + 1] = middle;
+		if (!lastColumn) {
+			target[offset + 2] = right;
+		}
+	}
+
+	/**
+	 * Egy oszlop fejléce a pálya fölött, mindig 3 karakter, mint a cellák
+	 * Az egybetűs jel középre kerül, a kétbetűs a cella végéhez igazodik, a hárombetűs kitölti
+	 * @param x az oszlop száma
+	 * @return az oszlop fejléce
+	 */
+	private static String getColumnHeader (int x) {
+		var label = CommandUtils.getColumnLabel(x);
+		return switch (label.length()) {
+			case 1 -> " " + label + " ";
+			case 2 -> " " + label;
+			default -> label;
+		};
+	}
+
+	/**
+	 * Eldönti, hogy kell-e meghosszabbítani a falat a jobb oldalán
+	 * Erre akkor van szükség, ha a formája ezt indokolja,
+	 * azaz meg lehet hosszabbítani
+	 * Ez akkor történhet meg, amikor,
+	 * amikor nem formáz sarkot jobbra
+	 * @param wall a fal, aminek a hosszabbításáról döntünk
+	 * @return az eredmény, ami lehet '━' vagy ' '
+	 */
+	private static char getWallRightExtensionSymbol (Wall wall) {
+		return switch (wall.getShape()) {
+			case Middle, Horizontal, HorizontalBottom, HorizontalTop, BottomLeft,
+					VerticalRight, TopLeft, Single -> WallShape.Horizontal.getSymbol();
+			default -> ' ';
+		};
+	}
+
+	/**
+	 * Eldönti, hogy kell-e meghosszabbítani a falat a bal oldalán
+	 * Erre akkor van szükség, ha a formája ezt indokolja,
+	 * azaz meg lehet hosszabbítani
+	 * Ez akkor történhet meg, amikor,
+	 * amikor nem formáz sarkot balra
+	 * @param wall a fal, aminek a hosszabbításáról döntünk
+	 * @return az eredmény, ami lehet '━' vagy ' '
+	 */
+	private static char getWallLeftExtensionSymbol (Wall wall) {
+		return switch (wall.getShape()) {
+			case Middle, Horizontal, HorizontalBottom, HorizontalTop, BottomRight,
+					VerticalLeft, TopRight, Single -> WallShape.Horizontal.getSymbol();
+			default -> ' ';
+		};
+	}
+}
@@ -1,13 +1,12 @@
 package hu.nye.pandragon.wumpus.xml.model;
 
 import hu.nye.pandragon.wumpus.model.Entities;
+import hu.nye.pandragon.wumpus.model.Position;
 import hu.nye.pandragon.wumpus.model.entities.Entity;
 import jakarta.xml.bind.annotation.*;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.awt.*;
-
 /**
  * Ez az osztály egy pályaelemet, mint XML node-ot ír le
  * Azért érdemes külön venni -- az egyszerűsége ellenére --,
@@ -42,14 +41,14 @@ public class XmlEntity {
 
 	public XmlEntity() {}
 
-	public XmlEntity(char compatibilitySymbol, Point position) {
+	public XmlEntity(char compatibilitySymbol, Position position) {
 		this.compatibilitySymbol = Character.toString(compatibilitySymbol);
-		this.posX = position.x;
-		this.posY = position.y;
+		this.posX = position.x();
+		this.posY = position.y();
 	}
 
-	public Point getPosition () {
-		return new Point(posX, posY);
+	public Position getPosition () {
+		return new Position(posX, posY);
 	}
 
 	/**
@@ -2,6 +2,7 @@ package hu.nye.pandragon.wumpus.xml.model;
 
 import hu.nye.pandragon.wumpus.model.Directions;
 import hu.nye.pandragon.wumpus.model.Items;
+import hu.nye.pandragon.wumpus.model.Position;
 import hu.nye.pandragon.wumpus.model.entities.Hero;
 import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
@@ -10,8 +11,6 @@ import jakarta.xml.bind.annotation.XmlRootElement;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.awt.*;
-
 @Getter
 @Setter
 @XmlAccessorType(XmlAccessType.FIELD)
@@ -36,7 +35,7 @@ public class XmlHero {
 	 * Létrehoz egy Hero objektumot az itt lévő adatok alapján
 	 * @return egy új Hero objektum
 	 */
-	public Hero getEntity(Point position) {
+	public Hero getEntity(Position position) {
 		var hero = new Hero();
 		hero.setPosition(position);
 		hero.setDirection(Directions.parseSymbol(direction.charAt(0)));
@@ -1,6 +1,7 @@
 package hu.nye.pandragon.wumpus.xml.model;
 
 import hu.nye.pandragon.wumpus.model.LevelVO;
+import hu.nye.pandragon.wumpus.model.Position;
 import hu.nye.pandragon.wumpus.model.entities.Entity;
 import hu.nye.pandragon.wumpus.model.entities.Hero;
 import hu.nye.pandragon.wumpus.model.entities.LivingEntity;
@@ -10,7 +11,6 @@ import jakarta.xml.bind.annotation.XmlElementWrapper;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import lombok.Getter;
 
-import java.awt.*;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -52,8 +52,8 @@ public class XmlLevel {
 		this.entities.addAll(levelVO.getLivingEntities().entrySet().stream()
 				.map(entry -> new XmlEntity(entry.getValue().getCompatibilitySymbol(), entry.getKey()))
 				.collect(Collectors.toList()));
-		this.startX = levelVO.getStartpoint().x;
-		this.startY = levelVO.getStartpoint().y;
+		this.startX = levelVO.getStartpoint().x();
+		this.startY = levelVO.getStartpoint().y();
 	}
 
 	public XmlLevel (LevelVO levelVO, int steps) {
@@ -62,8 +62,8 @@ public class XmlLevel {
 	}
 
 	public LevelVO toLevelVO () {
-		var staticEntities = new HashMap<Point, Entity>();
-		var livingEntites = new HashMap<Point, LivingEntity>();
+		var staticEntities = new HashMap<Position, Entity>();
+		var livingEntites = new HashMap<Position, LivingEntity>();
 //		var entities = this.entities.stream()
 //				.collect(Collectors.toMap(XmlEntity::getPosition, XmlEntity::getEntity));
 		for (XmlEntity xmlEntity : entities) {
@@ -80,6 +80,6 @@ public class XmlLevel {
 				staticEntities.put(xmlEntity.getPosition(), entity);
 			}
 		}
-		return new LevelVO(staticEntities, livingEntites, size, new Point(startX, startY), steps);
+		return new LevelVO(staticEntities, livingEntites, size, new Position(startX, startY), steps);
 	}
 }
@@ -16,7 +16,7 @@ import org.junit.jupiter.api.Test;
 class JsonLevelConverterTest {
 
 	static String JSON_CODE = """
-{"size":4,"startX":3,"startY":3,"steps":3,"entities":[{"symbol":"W","posX":1,"posY":1},{"symbol":"W","posX":4,"posY":1},{"symbol":"W","posX":1,"posY":4},{"symbol":"W","posX":1,"posY":2},{"symbol":"W","posX":4,"posY":2},{"symbol":"W","posX":2,"posY":1},{"symbol":"W","posX":2,"posY":4},{"symbol":"W","posX":4,"posY":4},{"symbol":"W","posX":1,"posY":3},{"symbol":"W","posX":4,"posY":3},{"symbol":"W","posX":3,"posY":1},{"symbol":"W","posX":3,"posY":4},{"symbol":"H","posX":3,"posY":3}],"hero":{"arrows":2,"direction":"W","hasGold":true}}""";
+{"size":4,"startX":3,"startY":3,"steps":3,"entities":[{"symbol":"W","posX":1,"posY":1},{"symbol":"W","posX":2,"posY":1},{"symbol":"W","posX":3,"posY":1},{"symbol":"W","posX":4,"posY":1},{"symbol":"W","posX":1,"posY":2},{"symbol":"W","posX":4,"posY":2},{"symbol":"W","posX":1,"posY":3},{"symbol":"W","posX":4,"posY":3},{"symbol":"W","posX":1,"posY":4},{"symbol":"W","posX":2,"posY":4},{"symbol":"W","posX":3,"posY":4},{"symbol":"W","posX":4,"posY":4},{"symbol":"H","posX":3,"posY":3}],"hero":{"arrows":2,"direction":"W","hasGold":true}}""";
 
 	JsonLevelConverter jsonLevelConverter;
 	LevelVO levelVO;
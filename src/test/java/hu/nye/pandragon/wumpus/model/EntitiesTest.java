@@ -0,0 +1,56 @@
+package hu.nye.pandragon.wumpus.model;
+
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Pit;
+import hu.nye.pandragon.wumpus.model.entities.Wall;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class EntitiesTest {
+
+	@Test
+	public void shouldReturnSharedInstances () {
+		Assertions.assertSame(Entities.Pit.createNewInstance(), Entities.Pit.createNewInstance());
+		Assertions.assertSame(Entities.Gold.createNewInstance(), Entities.Gold.createNewInstance().clone());
+		Assertions.assertSame(Wall.of(WallShape.Single), Entities.Wall.createNewInstance());
+		Assertions.assertNotSame(Entities.Hero.createNewInstance(), Entities.Hero.createNewInstance());
+		Assertions.assertNotSame(Entities.Wumpus.createNewInstance(), Entities.Wumpus.createNewInstance());
+	}
+
+	@Test
+	public void shouldKeepOwnInstancesApartFromSharedOnes () {
+		var pit = new Pit();
+		var gold = new Gold();
+
+		Assertions.assertFalse(pit.isShared());
+		Assertions.assertNotSame(pit, pit.clone());
+		Assertions.assertTrue(pit.getSharedInstance().isShared());
+		Assertions.assertSame(Entities.Pit.createNewInstance(), pit.getSharedInstance());
+		Assertions.assertSame(Entities.Gold.createNewInstance(), gold.getSharedInstance());
+		Assertions.assertTrue(Entities.Gold.createNewInstance().isShared());
+		Assertions.assertNull(Entities.Hero.createNewInstance().getSharedInstance());
+	}
+
+	@Test
+	public void shouldNotModifySharedWall () {
+		var wall = Wall.of(WallShape.Horizontal);
+
+		Assertions.assertSame(Wall.of(WallShape.Verticcal), wall.withShape(WallShape.Verticcal));
+		Assertions.assertSame(Wall.of(WallShape.Verticcal), wall.fitShape(true, false, true, false));
+		Assertions.assertSame(Wall.of(WallShape.getShape(false, false, false, false)), wall.fitShape(Map.of(), new Position(2, 2)));
+		Assertions.assertEquals(WallShape.Horizontal, wall.getShape());
+	}
+
+	@Test
+	public void shouldFitOwnWallWithoutModifyingIt () {
+		var wall = new Wall();
+		var fitted = wall.fitShape(Map.of(new Position(2, 1), new Wall(), new Position(2, 3), new Wall()), new Position(2, 2));
+
+		Assertions.assertFalse(fitted.isShared());
+		Assertions.assertNotSame(wall, fitted);
+		Assertions.assertEquals(WallShape.Verticcal, fitted.getShape());
+		Assertions.assertEquals(WallShape.Single, wall.getShape());
+	}
+}
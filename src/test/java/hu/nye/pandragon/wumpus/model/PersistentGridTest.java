@@ -0,0 +1,43 @@
+package hu.nye.pandragon.wumpus.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PersistentGridTest {
+
+	@Test
+	public void shouldNotChangeOriginalOnWith () {
+		var grid = new PersistentGrid<String>(5);
+		var changed = grid.with(2, 3, "a");
+
+		Assertions.assertNull(grid.get(2, 3));
+		Assertions.assertEquals("a", changed.get(2, 3));
+		Assertions.assertNull(changed.get(6, 1));
+	}
+
+	@Test
+	public void shouldKeepSnapshotsIndependentOfBuilder () {
+		var builder = new PersistentGrid<String>(5).toBuilder();
+		builder.set(1, 1, "a");
+		var first = builder.build();
+		builder.set(1, 1, "b");
+		builder.set(4, 5, "c");
+		var second = builder.build();
+
+		Assertions.assertEquals("a", first.get(1, 1));
+		Assertions.assertNull(first.get(4, 5));
+		Assertions.assertEquals("b", second.get(1, 1));
+		Assertions.assertEquals("c", second.get(4, 5));
+	}
+
+	@Test
+	public void shouldCompareByContent () {
+		var a = new PersistentGrid<String>(4).with(2, 2, "x");
+		var b = new PersistentGrid<String>(4).toBuilder();
+		b.set(2, 2, "x");
+
+		Assertions.assertEquals(a, b.build());
+		Assertions.assertEquals(a.hashCode(), b.build().hashCode());
+		Assertions.assertNotEquals(a, a.with(2, 2, null));
+	}
+}
@@ -0,0 +1,25 @@
+package hu.nye.pandragon.wumpus.service.command;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CommandTest {
+
+	@Test
+	public void shouldTokenizeOnWhitespace () {
+		Assertions.assertArrayEquals(new String[] {"legyen", "fal", "b", "3"}, Command.tokenize("  legyen \tfal  b 3 "));
+	}
+
+	@Test
+	public void shouldTokenizeEmptyInput () {
+		Assertions.assertEquals(0, Command.tokenize("   ").length);
+	}
+
+	@Test
+	public void shouldGetArgsFromTokens () {
+		var tokens = Command.tokenize("hős fordul n");
+		Assertions.assertArrayEquals(new String[] {"n"}, Command.getCommandArgs(2, tokens));
+		Assertions.assertArrayEquals(new String[] {"fordul", "n"}, Command.getCommandArgs("hős fordul n"));
+		Assertions.assertEquals(0, Command.getCommandArgs(5, tokens).length);
+	}
+}
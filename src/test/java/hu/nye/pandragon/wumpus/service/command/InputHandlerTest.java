@@ -0,0 +1,179 @@
+package hu.nye.pandragon.wumpus.service.command;
+
+import hu.nye.pandragon.wumpus.model.GameplayCommands;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+class InputHandlerTest {
+
+	List<String> processed;
+	ByteArrayOutputStream outputStreamCaptor;
+
+	@BeforeEach
+	public void setup () {
+		processed = new ArrayList<>();
+		outputStreamCaptor = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(outputStreamCaptor));
+	}
+
+	@Test
+	public void shouldProcessCommandByFirstToken () {
+		var handler = new InputHandler(List.of(command("lép", "lép"), command("lő", "lő")));
+		Assertions.assertNull(handler.handleInput("  LŐ "));
+
+		Assertions.assertEquals(List.of("lő"), processed);
+	}
+
+	@Test
+	public void shouldPassTokensToCommand () {
+		var handler = new InputHandler(List.of(new Command() {
+			@Override
+			public CommandMatcherResult match (String input) {
+				return CommandMatcherResult.ofCorrectMatchingCommand();
+			}
+
+			@Override
+			public String getFirstToken () {
+				return "fordul";
+			}
+
+			@Override
+			public void process (String input) {
+				Assertions.fail("A szétbontott bemenetet kell használni");
+			}
+
+			@Override
+			public void process (String input, String[] tokens) {
+				processed.add(String.join(",", tokens));
+			}
+		}));
+		handler.handleInput("fordul   jobbra");
+
+		Assertions.assertEquals(List.of("fordul,jobbra"), processed);
+	}
+
+	@Test
+	public void shouldCheckUnindexedCommands () {
+		var handler = new InputHandler(List.of(command("lép", "lép"), command(null, "teszt")));
+		handler.handleInput("teszt");
+
+		Assertions.assertEquals(List.of("teszt"), processed);
+	}
+
+	@Test
+	public void shouldReturnSyntaxMessage () {
+		var handler = new InputHandler(List.of(new Command() {
+			@Override
+			public CommandMatcherResult match (String input) {
+				return CommandMatcherResult.ofInproperSyntax("A parancs használata: lép");
+			}
+
+			@Override
+			public String getFirstToken () {
+				return "lép";
+			}
+
+			@Override
+			public void process (String input) {
+				processed.add(input);
+			}
+		}));
+		var message = handler.handleInput("lép 2");
+
+		Assertions.assertTrue(processed.isEmpty());
+		Assertions.assertEquals("A parancs használata: lép", message);
+		Assertions.assertFalse(outputStreamCaptor.toString().contains("A parancs használata: lép"));
+	}
+
+	/**
+	 * Az elírt parancs, aminek az eleje egy parancs első szava, a parancs használatát kapja
+	 */
+	@Test
+	public void shouldShowUsageForNearMissCommand () {
+		var handler = new InputHandler(List.of(new Command() {
+			@Override
+			public CommandMatcherResult match (String input) {
+				return GameplayCommands.MoveForward.matches(input);
+			}
+
+			@Override
+			public String getFirstToken () {
+				return GameplayCommands.MoveForward.getBase();
+			}
+
+			@Override
+			public void process (String input) {
+				processed.add(input);
+			}
+		}));
+
+		Assertions.assertEquals("A parancs használata: lép", handler.handleInput("lépés"));
+		Assertions.assertNull(handler.handleInput("lép"));
+		Assertions.assertEquals(List.of("lép"), processed);
+		Assertions.assertFalse(outputStreamCaptor.toString().contains("Ismeretlen parancs"));
+	}
+
+	@Test
+	public void shouldFallBackToDefaultCommand () {
+		var handler = new InputHandler(List.of(command("lép", "lép")));
+		handler.handleInput("ugrás");
+		handler.handleInput("");
+
+		Assertions.assertTrue(processed.isEmpty());
+		Assertions.assertTrue(outputStreamCaptor.toString().contains("Ismeretlen parancs: ugrás"));
+	}
+
+	@Test
+	public void shouldSplitCommandsAndRepeat () {
+		var handler = new InputHandler(List.of(command("lép", "lép"), command("lő", "lő"),
+				command("törlés", "törlés 3 4")));
+
+		Assertions.assertEquals(List.of("lép", "lép", "lép", "lő", "törlés 3 4"),
+				handler.splitInput(" LÉP 3 ;; lő; törlés 3 4 "));
+	}
+
+	@Test
+	public void shouldKeepNumberOfInvalidCommand () {
+		var handler = new InputHandler(List.of(command("lép", "lép")));
+
+		Assertions.assertEquals(List.of("ugrás 3"), handler.splitInput("ugrás 3"));
+		Assertions.assertEquals(List.of(""), handler.splitInput(" ; "));
+	}
+
+	@Test
+	public void shouldRejectTooManyRepeats () {
+		var handler = new InputHandler(List.of(command("lép", "lép")));
+
+		Assertions.assertThrows(RuntimeException.class, () -> handler.splitInput("lép 0"));
+		Assertions.assertThrows(RuntimeException.class, () -> handler.splitInput("lép 99999999999"));
+	}
+
+	/**
+	 * Egy parancs, ami a pontosan egyező bemenetet fogadja el
+	 */
+	private Command command (String firstToken, String text) {
+		return new Command() {
+			@Override
+			public CommandMatcherResult match (String input) {
+				return input.equals(text) ? CommandMatcherResult.ofCorrectMatchingCommand()
+						: CommandMatcherResult.ofNotMatchingCommand();
+			}
+
+			@Override
+			public String getFirstToken () {
+				return firstToken;
+			}
+
+			@Override
+			public void process (String input) {
+				processed.add(input);
+			}
+		};
+	}
+}
@@ -1,5 +1,15 @@
 package hu.nye.pandragon.wumpus.service.command.impl.editor;
 
+import hu.nye.pandragon.wumpus.model.Screen;
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Wall;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import hu.nye.pandragon.wumpus.service.game.Level;
+import hu.nye.pandragon.wumpus.service.game.LevelValidator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
 class EditorExitCommandTest {
 /*
 Egyelőre ezt nem lehet tesztelni
@@ -22,4 +32,41 @@ mert ez blokkolja a végrehajtást az objektum létrehozásakor
 
 		Assertions.assertTrue(exitCommand.match(input).isCommandMatches());
 	}*/
-}
\ No newline at end of file
+
+	/**
+	 * Ha a pálya nem ellenőrizhető teljesen, akkor az első kilépés figyelmeztet,
+	 * a második kilép, és a pálya megmarad
+	 */
+	@Test
+	public void shouldWarnWhenValidationIsInconclusive () {
+		var screen = new Screen() {
+			@Override
+			public void start () {
+			}
+
+			@Override
+			protected void readCommands () {
+			}
+		};
+		var level = new Level(8);
+		level.setEditing(true);
+		var hero = new Hero();
+		hero.setAmmoAmount(1);
+		level.placeEntity(2, 2, hero);
+		level.placeEntity(6, 6, new Gold());
+		for (int y = 2; y <= 7; y++) {
+			level.placeEntity(4, y, new Wall());
+		}
+		level.removeStaticEntity(4, 5);
+		level.placeEntity(4, 5, new Wumpus());
+		var exitCommand = new EditorExitCommand(screen, level, new LevelValidator(16));
+
+		var exception = Assertions.assertThrows(RuntimeException.class, () -> exitCommand.process("kész"));
+		Assertions.assertTrue(exception.getMessage().startsWith("A pálya túl nagy"));
+		Assertions.assertFalse(screen.isShouldExit());
+
+		exitCommand.process("kész");
+		Assertions.assertTrue(screen.isShouldExit());
+		Assertions.assertFalse(exitCommand.isLevelRejected());
+	}
+}
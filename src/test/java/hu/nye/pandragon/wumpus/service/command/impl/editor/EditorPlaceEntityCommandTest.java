@@ -1,13 +1,12 @@
 package hu.nye.pandragon.wumpus.service.command.impl.editor;
 
+import hu.nye.pandragon.wumpus.model.Position;
 import hu.nye.pandragon.wumpus.model.entities.Hero;
 import hu.nye.pandragon.wumpus.service.game.Level;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.awt.*;
-
 class EditorPlaceEntityCommandTest {
 
 	Level level;
@@ -31,7 +30,7 @@ class EditorPlaceEntityCommandTest {
 		var input = "legyen hős d 4";
 		placeEntityCommand.process(input);
 
-		Assertions.assertTrue(level.toLevelVO().getLivingEntities().get(new Point(4, 4)) instanceof Hero);
+		Assertions.assertTrue(level.toLevelVO().getLivingEntities().get(new Position(4, 4)) instanceof Hero);
 	}
 
 	@Test
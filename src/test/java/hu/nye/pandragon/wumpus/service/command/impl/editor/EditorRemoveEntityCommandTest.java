@@ -1,13 +1,12 @@
 package hu.nye.pandragon.wumpus.service.command.impl.editor;
 
+import hu.nye.pandragon.wumpus.model.Position;
 import hu.nye.pandragon.wumpus.model.entities.Gold;
 import hu.nye.pandragon.wumpus.service.game.Level;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.awt.*;
-
 class EditorRemoveEntityCommandTest {
 
 	Level level;
@@ -32,7 +31,7 @@ class EditorRemoveEntityCommandTest {
 		level.placeEntity(4, 4, new Gold());
 		removeEntityCommand.process(input);
 
-		Assertions.assertNull(level.toLevelVO().getStaticEntities().get(new Point(4, 4)));
+		Assertions.assertNull(level.toLevelVO().getStaticEntities().get(new Position(4, 4)));
 	}
 
 	@Test
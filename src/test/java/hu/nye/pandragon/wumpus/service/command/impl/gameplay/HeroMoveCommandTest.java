@@ -1,13 +1,12 @@
 package hu.nye.pandragon.wumpus.service.command.impl.gameplay;
 
+import hu.nye.pandragon.wumpus.model.Position;
 import hu.nye.pandragon.wumpus.model.entities.Hero;
 import hu.nye.pandragon.wumpus.service.game.Level;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.awt.*;
-
 class HeroMoveCommandTest {
 
 	private static String COMMAND = "lép";
@@ -37,7 +36,7 @@ class HeroMoveCommandTest {
 
 	@Test
 	public void shouldMove () {
-		var expected = new Point(3, 2);
+		var expected = new Position(3, 2);
 		heroMoveCommand.process(COMMAND);
 		var result = hero.getPosition();
 		Assertions.assertEquals(expected, result);
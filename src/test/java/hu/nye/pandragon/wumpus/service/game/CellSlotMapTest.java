@@ -0,0 +1,52 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+class CellSlotMapTest {
+
+	@Test
+	public void shouldPutGetAndRemove () {
+		var map = new CellSlotMap();
+		map.put(5, 1);
+		map.put(21, 2);
+		map.put(5, 3);
+
+		Assertions.assertEquals(3, map.get(5));
+		Assertions.assertEquals(2, map.get(21));
+		Assertions.assertEquals(-1, map.get(6));
+		map.remove(5);
+		Assertions.assertEquals(-1, map.get(5));
+		Assertions.assertEquals(2, map.get(21));
+		Assertions.assertEquals(1, map.size());
+	}
+
+	/**
+	 * Sok beírás és törlés után is ugyanazt kell tartalmaznia, mint egy HashMap-nek,
+	 * ez a törléskori visszacsúsztatást is ellenőrzi
+	 */
+	@Test
+	public void shouldMatchHashMap () {
+		var map = new CellSlotMap();
+		var expected = new HashMap<Integer, Integer>();
+		var random = new Random(42);
+		for (int i = 0; i < 100_000; i++) {
+			var key = random.nextInt(2000);
+			if (random.nextInt(3) == 0) {
+				map.remove(key);
+				expected.remove(key);
+			}
+			else {
+				map.put(key, i);
+				expected.put(key, i);
+			}
+		}
+		Assertions.assertEquals(expected.size(), map.size());
+		for (int key = 0; key < 2000; key++) {
+			Assertions.assertEquals(expected.getOrDefault(key, -1), map.get(key));
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package hu.nye.pandragon.wumpus.service.game;
 
 import hu.nye.pandragon.wumpus.model.Directions;
+import hu.nye.pandragon.wumpus.model.Position;
 import hu.nye.pandragon.wumpus.model.TurnDirections;
 import hu.nye.pandragon.wumpus.model.entities.Hero;
 import hu.nye.pandragon.wumpus.model.entities.Pit;
@@ -9,7 +10,6 @@ import hu.nye.pandragon.wumpus.model.entities.Wumpus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.awt.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,7 +38,7 @@ class EntityControllerTest {
 		level.placeEntity(3, 3, hero);
 		controller.moveForward();
 		var positionTo = hero.getPosition();
-		assertEquals(hero.getPosition(), new Point(3, 2));
+		assertEquals(hero.getPosition(), new Position(3, 2));
 	}
 
 	@Test
@@ -0,0 +1,81 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.GameState;
+import hu.nye.pandragon.wumpus.model.Items;
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+class GameSessionTest {
+
+	Level level;
+
+	@BeforeEach
+	public void setup () {
+		level = new Level(8);
+		level.placeEntity(3, 4, new Hero());
+	}
+
+	@Test
+	public void shouldThrowWithoutHero () {
+		var levelVO = new Level(8).toLevelVO();
+
+		Assertions.assertThrows(RuntimeException.class, () -> new GameSession(levelVO));
+	}
+
+	@Test
+	public void shouldWinWithGoldAtStart () {
+		level.placeEntity(3, 3, new Gold());
+		var session = new GameSession(level.toLevelVO());
+
+		Assertions.assertTrue(session.step("lép").accepted());
+		Assertions.assertTrue(session.step("aranyat felszed").accepted());
+		session.step("fordul jobbra");
+		session.step("fordul jobbra");
+		var outcome = session.step("lép");
+
+		Assertions.assertEquals(GameState.Won, outcome.state());
+		Assertions.assertTrue(outcome.isFinished());
+		Assertions.assertEquals(5, outcome.steps());
+		Assertions.assertTrue(session.getHero().hasItem(Items.Gold));
+		Assertions.assertThrows(IllegalStateException.class, () -> session.step("lép"));
+	}
+
+	@Test
+	public void shouldDieOnWumpus () {
+		level.placeEntity(3, 3, new Wumpus());
+		var session = new GameSession(level.toLevelVO());
+
+		Assertions.assertEquals(GameState.Died, session.step("lép").state());
+	}
+
+	@Test
+	public void shouldGiveUp () {
+		var session = new GameSession(level.toLevelVO());
+
+		Assertions.assertEquals(GameState.GaveUp, session.step("felad").state());
+	}
+
+	@Test
+	public void shouldCountRejectedCommandsWithoutOutput () {
+		var outputStreamCaptor = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(outputStreamCaptor));
+		var session = new GameSession(level.toLevelVO());
+
+		var unknown = session.step("ugrás");
+		var syntax = session.step("fordul fel");
+
+		Assertions.assertFalse(unknown.accepted());
+		Assertions.assertEquals("Ismeretlen parancs: ugrás", unknown.message());
+		Assertions.assertEquals("A parancs használata: fordul jobbra|balra", syntax.message());
+		Assertions.assertEquals(GameState.Running, syntax.state());
+		Assertions.assertEquals(2, session.getSteps());
+		Assertions.assertEquals("", outputStreamCaptor.toString());
+	}
+}
@@ -0,0 +1,80 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.Directions;
+import hu.nye.pandragon.wumpus.model.Entities;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LevelBitboardsTest {
+
+	static final int SIZE = 70;
+	static final int WALL = Entities.Wall.ordinal();
+	static final int GOLD = Entities.Gold.ordinal();
+
+	LevelBitboards bitboards;
+
+	@BeforeEach
+	public void setup () {
+		bitboards = new LevelBitboards(SIZE);
+	}
+
+	int index (int x, int y) {
+		return y * SIZE + x;
+	}
+
+	@Test
+	public void shouldSetAndClearBits () {
+		bitboards.set(WALL, index(65, 3));
+
+		Assertions.assertTrue(bitboards.test(WALL, index(65, 3)));
+		Assertions.assertFalse(bitboards.test(GOLD, index(65, 3)));
+		bitboards.clear(WALL, index(65, 3));
+		Assertions.assertFalse(bitboards.test(WALL, index(65, 3)));
+	}
+
+	@Test
+	public void shouldFindFirstOccupiedEastAcrossWords () {
+		bitboards.set(GOLD, index(66, 1));
+
+		Assertions.assertEquals(index(66, 1), bitboards.firstOccupied(index(2, 1), Directions.East));
+		Assertions.assertEquals(-1, bitboards.firstOccupied(index(66, 1), Directions.East));
+	}
+
+	@Test
+	public void shouldNotFindEastInNextRow () {
+		bitboards.set(WALL, index(0, 2));
+
+		Assertions.assertEquals(-1, bitboards.firstOccupied(index(60, 1), Directions.East));
+	}
+
+	@Test
+	public void shouldFindFirstOccupiedWestAcrossWords () {
+		bitboards.set(WALL, index(1, 5));
+		bitboards.set(WALL, index(69, 4));
+
+		Assertions.assertEquals(index(1, 5), bitboards.firstOccupied(index(68, 5), Directions.West));
+		Assertions.assertEquals(-1, bitboards.firstOccupied(index(1, 5), Directions.West));
+	}
+
+	@Test
+	public void shouldFindFirstOccupiedNorthAndSouth () {
+		bitboards.set(WALL, index(7, 0));
+		bitboards.set(GOLD, index(7, 60));
+
+		Assertions.assertEquals(index(7, 0), bitboards.firstOccupied(index(7, 30), Directions.North));
+		Assertions.assertEquals(index(7, 60), bitboards.firstOccupied(index(7, 30), Directions.South));
+		Assertions.assertEquals(-1, bitboards.firstOccupied(index(7, 60), Directions.South));
+	}
+
+	@Test
+	public void shouldCollectNeighbours () {
+		bitboards.set(WALL, index(10, 9));
+		bitboards.set(WALL, index(11, 10));
+		var walls = LevelBitboards.maskOf(Entities.Wall);
+
+		Assertions.assertEquals(LevelBitboards.NORTH | LevelBitboards.EAST, bitboards.neighbourMask(walls, index(10, 10), false));
+		Assertions.assertEquals(LevelBitboards.NORTH | LevelBitboards.WEST, bitboards.neighbourMask(walls, index(0, 0), true));
+		Assertions.assertEquals(0, bitboards.neighbourMask(walls, index(0, 0), false));
+	}
+}
@@ -0,0 +1,65 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Wall;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LevelGridTest {
+
+	LevelGrid grid;
+
+	@BeforeEach
+	public void setup () {
+		grid = new LevelGrid(6);
+	}
+
+	@Test
+	public void shouldConvertIndexBackToCoordinates () {
+		var index = grid.index(4, 3);
+
+		Assertions.assertEquals(2 * 6 + 3, index);
+		Assertions.assertEquals(4, grid.getX(index));
+		Assertions.assertEquals(3, grid.getY(index));
+	}
+
+	@Test
+	public void shouldStoreStaticAndLivingSeparately () {
+		var gold = new Gold();
+		var hero = new Hero();
+		grid.putStatic(3, 3, gold);
+		grid.putLiving(3, 3, hero);
+
+		Assertions.assertSame(gold, grid.getStatic(3, 3));
+		Assertions.assertSame(hero, grid.getLiving(3, 3));
+		Assertions.assertSame(gold, grid.removeStatic(3, 3));
+		Assertions.assertNull(grid.getStatic(3, 3));
+		Assertions.assertSame(hero, grid.getLiving(3, 3));
+	}
+
+	@Test
+	public void shouldBlockOnWallAndOutsideOfLevel () {
+		grid.putStatic(2, 2, new Wall());
+		grid.putStatic(3, 2, new Gold());
+
+		Assertions.assertTrue(grid.isBlocking(2, 2));
+		Assertions.assertFalse(grid.isBlocking(3, 2));
+		Assertions.assertFalse(grid.isBlocking(4, 4));
+		Assertions.assertTrue(grid.isBlocking(0, 2));
+		Assertions.assertTrue(grid.isBlocking(2, 7));
+	}
+
+	@Test
+	public void shouldReturnNullOutsideOfLevel () {
+		Assertions.assertNull(grid.getStatic(0, 0));
+		Assertions.assertNull(grid.getLiving(7, 1));
+		Assertions.assertNull(grid.removeStatic(-1, 3));
+	}
+
+	@Test
+	public void shouldThrowOnPlacingOutsideOfLevel () {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> grid.putStatic(7, 7, new Wall()));
+	}
+}
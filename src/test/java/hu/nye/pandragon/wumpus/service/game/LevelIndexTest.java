@@ -0,0 +1,85 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.Entities;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LevelIndexTest {
+
+	static final int PIT = Entities.Pit.ordinal();
+	static final int WUMPUS = Entities.Wumpus.ordinal();
+	static final int HERO = Entities.Hero.ordinal();
+
+	LevelIndex index;
+
+	@BeforeEach
+	public void setup () {
+		index = new LevelIndex();
+	}
+
+	@Test
+	public void shouldCountAfterGrowing () {
+		for (int i = 0; i < 10; i++) {
+			index.add(PIT, i);
+		}
+
+		Assertions.assertEquals(10, index.count(PIT));
+		Assertions.assertEquals(0, index.count(WUMPUS));
+	}
+
+	@Test
+	public void shouldMoveLastIntoRemovedSlot () {
+		index.add(PIT, 5);
+		index.add(PIT, 7);
+		index.add(PIT, 9);
+		index.addLiving(WUMPUS, 7, new Wumpus());
+		index.remove(PIT, 5);
+
+		Assertions.assertEquals(2, index.count(PIT));
+		Assertions.assertEquals(9, index.get(PIT, 0));
+		Assertions.assertEquals(7, index.get(PIT, 1));
+		index.remove(PIT, 7);
+		Assertions.assertEquals(9, index.get(PIT, 0));
+		Assertions.assertEquals(7, index.get(WUMPUS, 0));
+		Assertions.assertNotNull(index.getLivingAt(7));
+	}
+
+	@Test
+	public void shouldCountStaticEntities () {
+		for (int i = 0; i < 10; i++) {
+			index.add(PIT, i);
+		}
+		index.remove(PIT, 3);
+		// ami nincs benne, azt nem veszi ki
+		index.remove(PIT, 3);
+
+		Assertions.assertEquals(9, index.count(PIT));
+		Assertions.assertEquals(0, index.count(WUMPUS));
+	}
+
+	@Test
+	public void shouldMoveLastLivingIntoRemovedSlot () {
+		var w1 = new Wumpus();
+		var w2 = new Wumpus();
+		var hero = new Hero();
+		for (int i = 0; i < 3; i++) {
+			index.addLiving(WUMPUS, 100 + i, new Wumpus());
+		}
+		index.addLiving(WUMPUS, 5, w1);
+		index.addLiving(WUMPUS, 7, w2);
+		index.addLiving(HERO, 9, hero);
+		index.removeLiving(WUMPUS, 5);
+
+		Assertions.assertEquals(4, index.count(WUMPUS));
+		Assertions.assertNull(index.getLivingAt(5));
+		Assertions.assertSame(w2, index.getLivingAt(7));
+		Assertions.assertSame(hero, index.getLivingAt(9));
+		Assertions.assertEquals(5, index.getLivingCount());
+		for (int n = 0; n < index.getLivingCount(); n++) {
+			Assertions.assertSame(index.getLiving(n), index.getLivingAt(index.getLivingCell(n)));
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.Items;
+import hu.nye.pandragon.wumpus.model.Position;
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Pit;
+import hu.nye.pandragon.wumpus.model.entities.Wall;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class LevelPathfinderTest {
+	Level level;
+	LevelPathfinder pathfinder;
+
+	@BeforeEach
+	public void setup () {
+		level = new Level(6);
+		pathfinder = new LevelPathfinder();
+	}
+
+	@Test
+	public void shouldFindShortestDistance () {
+		Assertions.assertEquals(0, pathfinder.distance(level, new Position(2, 2), new Position(2, 2)));
+		Assertions.assertEquals(6, pathfinder.distance(level, new Position(2, 2), new Position(5, 5)));
+		// A fal kikerülése
+		level.placeEntity(3, 2, new Wall());
+		level.placeEntity(3, 3, new Wall());
+		Assertions.assertEquals(6, pathfinder.distance(level, new Position(2, 2), new Position(4, 2)));
+	}
+
+	@Test
+	public void shouldWalkThroughWumpusAndPit () {
+		for (int y = 2; y <= 5; y++) {
+			level.placeEntity(3, y, new Wall());
+		}
+		level.removeStaticEntity(new Position(3, 3));
+		level.placeEntity(3, 3, new Wumpus());
+		level.removeStaticEntity(new Position(3, 4));
+		level.placeEntity(3, 4, new Pit());
+		Assertions.assertEquals(3, pathfinder.distance(level, new Position(2, 3), new Position(4, 2)));
+	}
+
+	@Test
+	public void shouldReturnMinusOneWhenUnreachable () {
+		for (int y = 2; y <= 5; y++) {
+			level.placeEntity(3, y, new Wall());
+		}
+		Assertions.assertEquals(-1, pathfinder.distance(level, new Position(2, 2), new Position(4, 2)));
+		Assertions.assertEquals(List.of(), pathfinder.findPath(level, new Position(2, 2), new Position(4, 2)));
+		Assertions.assertEquals(-1, pathfinder.distance(level, new Position(2, 2), Position.NONE));
+		Assertions.assertEquals(-1, pathfinder.distance(level, new Position(2, 2), new Position(7, 2)));
+		// Az előző keresések nem zavarják a következőt
+		Assertions.assertEquals(3, pathfinder.distance(level, new Position(2, 2), new Position(2, 5)));
+	}
+
+	@Test
+	public void shouldFindPath () {
+		level.placeEntity(3, 2, new Wall());
+		var path = pathfinder.findPath(level, new Position(2, 2), new Position(4, 2));
+		Assertions.assertEquals(5, path.size());
+		Assertions.assertEquals(new Position(2, 2), path.get(0));
+		Assertions.assertEquals(new Position(4, 2), path.get(4));
+		for (int i = 1; i < path.size(); i++) {
+			var a = path.get(i - 1);
+			var b = path.get(i);
+			Assertions.assertEquals(1, Math.abs(a.x() - b.x()) + Math.abs(a.y() - b.y()));
+			Assertions.assertNull(level.getStaticEntity(b.x(), b.y()));
+		}
+	}
+
+	@Test
+	public void shouldCalculateRouteLength () {
+		Assertions.assertEquals(-1, pathfinder.getRouteLength(level));
+		var hero = new Hero();
+		level.placeEntity(2, 2, hero);
+		level.setStartpoint(2, 2);
+		level.placeEntity(5, 5, new Gold());
+		Assertions.assertEquals(6, pathfinder.distanceFromHeroToGold(level));
+		Assertions.assertEquals(6, pathfinder.distanceFromGoldToStart(level));
+		Assertions.assertEquals(12, pathfinder.getRouteLength(level));
+
+		level.removeStaticEntity(new Position(5, 5));
+		Assertions.assertEquals(-1, pathfinder.getRouteLength(level));
+		hero.addItem(Items.Gold);
+		Assertions.assertEquals(0, pathfinder.getRouteLength(level));
+	}
+
+	@Test
+	public void shouldReuseBuffersOnLargerLevel () {
+		Assertions.assertEquals(6, pathfinder.distance(level, new Position(2, 2), new Position(5, 5)));
+		var large = new Level(200);
+		Assertions.assertEquals(394, pathfinder.distance(large, new Position(2, 2), new Position(199, 199)));
+		Assertions.assertEquals(6, pathfinder.distance(level, new Position(2, 2), new Position(5, 5)));
+	}
+
+	/**
+	 * Az egymás utáni keresések nem látják egymás bejárt celláit,
+	 * és a nagy pályán a sornak is meg kell nőnie
+	 */
+	@Test
+	public void shouldKeepSearchesApart () {
+		var large = new Level(200);
+		for (int y = 2; y <= 198; y++) {
+			large.placeEntity(100, y, new Wall());
+		}
+		for (int i = 0; i < 3; i++) {
+			var path = pathfinder.findPath(large, new Position(2, 2), new Position(199, 2));
+			Assertions.assertEquals(197 + 2 * 197 + 1, path.size());
+			Assertions.assertEquals(new Position(199, 2), path.get(path.size() - 1));
+			Assertions.assertEquals(-1, pathfinder.distance(level, new Position(2, 2), new Position(1, 1)));
+			Assertions.assertEquals(6, pathfinder.distance(level, new Position(5, 5), new Position(2, 2)));
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package hu.nye.pandragon.wumpus.service.game;
 
 import hu.nye.pandragon.wumpus.model.Directions;
+import hu.nye.pandragon.wumpus.model.Position;
+import hu.nye.pandragon.wumpus.model.WallShape;
 import hu.nye.pandragon.wumpus.model.entities.Hero;
 import hu.nye.pandragon.wumpus.model.entities.Pit;
 import hu.nye.pandragon.wumpus.model.entities.Wall;
@@ -9,6 +11,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 
@@ -184,4 +187,184 @@ class LevelTest {
 		var result = new HashSet<>(level.getEntityControllers());
 		Assertions.assertEquals(result, entityControllers);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void shouldAlignNeighbourWallsOnPlace () {
+		level.placeEntity(2, 4, new Wall());
+		var wall = (Wall) level.getStaticEntity(2, 4);
+		var border = (Wall) level.getStaticEntity(1, 4);
+
+		Assertions.assertEquals(WallShape.Horizontal, wall.getShape());
+		Assertions.assertEquals(WallShape.VerticalRight, border.getShape());
+	}
+
+	@Test
+	public void shouldAlignNeighbourWallsOnRemove () {
+		level.placeEntity(2, 4, new Wall());
+		level.removeStaticEntity(2, 4);
+		var border = (Wall) level.getStaticEntity(1, 4);
+
+		Assertions.assertEquals(WallShape.Verticcal, border.getShape());
+	}
+
+	@Test
+	public void shouldRemoveTheGivenWumpus () {
+		var w1 = new Wumpus();
+		var w2 = new Wumpus();
+		level.placeEntity(2, 2, w1);
+		level.placeEntity(5, 5, w2);
+		var result = level.removeEntityIfExists(w2);
+
+		Assertions.assertSame(w2, result);
+		Assertions.assertSame(w1, level.getLivingEntity(2, 2));
+		Assertions.assertEquals(1, level.getEntityCount(w1));
+	}
+
+	@Test
+	public void shouldKeepIndexConsistentOnKill () {
+		var hero = new Hero();
+		var wumpus = new Wumpus();
+		level.placeEntity(2, 2, hero);
+		level.placeEntity(4, 4, wumpus);
+		wumpus.kill(level);
+		hero.kill(level);
+
+		Assertions.assertEquals(0, level.getEntityCount(wumpus));
+		Assertions.assertNull(level.getHero());
+		Assertions.assertTrue(level.getEntityControllers().isEmpty());
+	}
+
+	@Test
+	public void shouldReturnPossibleMovesMask () {
+		level.placeEntity(3, 2, new Wall());
+
+		Assertions.assertEquals(Directions.South.getMask(), level.getPossibleMovesMask(2, 2));
+		Assertions.assertEquals(0, level.getPossibleMovesMask(0, 2));
+	}
+
+	@Test
+	public void shouldCheckCanMove () {
+		Assertions.assertTrue(level.canMove(2, 2, Directions.East));
+		Assertions.assertFalse(level.canMove(2, 2, Directions.North));
+		Assertions.assertFalse(level.canMove(2, 2, Directions.Unknown));
+	}
+
+	@Test
+	public void shouldGetEntityAtWithoutCopying () {
+		var pit = new Pit();
+		var wumpus = new Wumpus();
+		level.placeEntity(3, 3, pit);
+		level.placeEntity(3, 3, wumpus);
+
+		Assertions.assertSame(wumpus, level.getEntityAt(3, 3));
+		level.removeLivingEntity(3, 3);
+		Assertions.assertSame(pit, level.getEntityAt(3, 3));
+		Assertions.assertNull(level.getEntityAt(4, 4));
+	}
+
+	@Test
+	public void shouldKeepSnapshotUnchanged () {
+		var hero = new Hero();
+		level.placeEntity(2, 2, hero);
+		var snapshot = level.toLevelVO();
+		level.placeEntity(3, 3, new Pit());
+		level.placeEntity(2, 3, new Wall());
+		level.removeLivingEntity(2, 2);
+
+		Assertions.assertNull(snapshot.getStaticEntityGrid().get(3, 3));
+		Assertions.assertEquals(WallShape.Verticcal, ((Wall) snapshot.getStaticEntityGrid().get(1, 3)).getShape());
+		Assertions.assertTrue(snapshot.getLivingEntities().get(hero.getPosition()) instanceof Hero);
+	}
+
+	@Test
+	public void shouldShareBorderWalls () {
+		Assertions.assertSame(Wall.of(WallShape.TopLeft), level.getStaticEntity(1, 1));
+		Assertions.assertSame(level.getStaticEntity(1, 3), level.getStaticEntity(9, 5));
+	}
+
+	@Test
+	public void shouldNotMoveStartPointWithHero () {
+		var hero = new Hero();
+		level.placeEntity(2, 2, hero);
+		var start = hero.getPosition();
+		level.removeEntityIfExists(hero);
+		level.placeEntity(3, 2, hero);
+
+		Assertions.assertEquals(new Position(2, 2), start);
+		Assertions.assertEquals(new Position(2, 2), level.getStartPoint());
+		Assertions.assertEquals(new Position(3, 2), hero.getPosition());
+	}
+
+	@Test
+	public void shouldCreateLargeLevel () {
+		var large = new Level(4096);
+		var wumpus = new Wumpus();
+		large.placeEntity(4000, 4001, wumpus);
+
+		Assertions.assertEquals(4 * 4095, large.getEntityCount(new Wall()));
+		Assertions.assertSame(Wall.of(WallShape.BottomRight), large.getStaticEntity(4096, 4096));
+		Assertions.assertSame(wumpus, large.getLivingEntity(4000, 4001));
+	}
+
+	@Test
+	public void shouldIncreaseModificationStamp () {
+		var stamp = level.getModificationStamp();
+		level.getPossibleMovesMask(2, 2);
+		Assertions.assertEquals(stamp, level.getModificationStamp());
+
+		level.placeEntity(3, 3, new Pit());
+		var afterPlace = level.getModificationStamp();
+		level.removeStaticEntity(3, 3);
+
+		Assertions.assertTrue(afterPlace > stamp);
+		Assertions.assertTrue(level.getModificationStamp() > afterPlace);
+	}
+
+	@Test
+	public void shouldEmitTypedEvents () {
+		var events = new ArrayList<LevelEvent>();
+		var hero = new Hero();
+		var wumpus = new Wumpus();
+		level.addListener(events::add);
+		level.placeEntity(2, 2, hero);
+		level.placeEntity(4, 4, wumpus);
+		hero.setDirection(Directions.East);
+		new EntityController(level, hero).moveForward();
+		wumpus.kill(level);
+		level.removeLivingEntity(3, 2);
+
+		Assertions.assertEquals(5, events.size());
+		Assertions.assertEquals(new LevelEvent.Placed(events.get(0).stamp(), hero, new Position(2, 2)), events.get(0));
+		Assertions.assertEquals(
+				new LevelEvent.Moved(events.get(2).stamp(), hero, new Position(2, 2), new Position(3, 2)), events.get(2));
+		Assertions.assertEquals(new LevelEvent.Killed(events.get(3).stamp(), wumpus, new Position(4, 4)), events.get(3));
+		Assertions.assertTrue(events.get(4) instanceof LevelEvent.Removed removed && removed.entity() == hero);
+		Assertions.assertEquals(level.getModificationStamp(), events.get(4).stamp());
+	}
+
+	@Test
+	public void shouldTrackHeroStateChanges () {
+		var events = new ArrayList<LevelEvent>();
+		var hero = new Hero();
+		hero.setAmmoAmount(1);
+		level.placeEntity(2, 2, hero);
+		level.addListener(events::add);
+		var controller = new EntityController(level, hero);
+
+		var stamp = level.getModificationStamp();
+		controller.turnRight();
+		Assertions.assertTrue(level.getModificationStamp() > stamp);
+		Assertions.assertEquals(new LevelEvent.Turned(level.getModificationStamp(), hero, Directions.North, Directions.East),
+				events.get(0));
+
+		stamp = level.getModificationStamp();
+		controller.shoot();
+		Assertions.assertEquals(0, hero.getAmmoAmount());
+		Assertions.assertTrue(level.getModificationStamp() > stamp);
+		Assertions.assertTrue(events.get(events.size() - 1) instanceof LevelEvent.Changed changed && changed.entity() == hero);
+
+		level.setStartpoint(3, 3);
+		Assertions.assertEquals(new LevelEvent.StartpointMoved(level.getModificationStamp(), new Position(2, 2), new Position(3, 3)),
+				events.get(events.size() - 1));
+	}
+}
@@ -0,0 +1,165 @@
+package hu.nye.pandragon.wumpus.service.game;
+
+import hu.nye.pandragon.wumpus.model.Items;
+import hu.nye.pandragon.wumpus.model.LevelVO;
+import hu.nye.pandragon.wumpus.model.Position;
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.LivingEntity;
+import hu.nye.pandragon.wumpus.model.entities.Pit;
+import hu.nye.pandragon.wumpus.model.entities.Wall;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+
+class LevelValidatorTest {
+	Level level;
+	LevelValidator validator;
+	Hero hero;
+
+	@BeforeEach
+	public void setup () {
+		level = new Level(8);
+		level.setEditing(true);
+		validator = new LevelValidator();
+		hero = new Hero();
+	}
+
+	@Test
+	public void shouldAcceptSolvableLevel () {
+		level.placeEntity(2, 2, hero);
+		level.placeEntity(6, 6, new Gold());
+
+		var result = validator.validate(level);
+		Assertions.assertTrue(result.solvable());
+		Assertions.assertFalse(result.limitReached());
+		Assertions.assertTrue(result.problems().isEmpty());
+	}
+
+	@Test
+	public void shouldRequireExactlyOneHeroAndGold () {
+		Assertions.assertEquals("Nincs hős a pályán", validator.validate(level).getMessage());
+		level.placeEntity(2, 2, hero);
+		Assertions.assertEquals("Nincs arany a pályán", validator.validate(level).getMessage());
+		level.placeEntity(6, 6, new Gold());
+		Assertions.assertTrue(validator.validate(level).solvable());
+
+		// A szerkesztő nem enged két hőst, de egy betöltött pályán lehet
+		var vo = level.toLevelVO();
+		var living = new HashMap<Position, LivingEntity>(vo.getLivingEntities());
+		living.put(new Position(3, 3), new Hero());
+		var twoHeroes = new Level(new LevelVO(vo.getStaticEntityGrid(), living, vo.getSize(), vo.getStartpoint(), 0));
+		Assertions.assertEquals("Csak egy hős lehet a pályán, most 2 van", validator.validate(twoHeroes).getMessage());
+	}
+
+	@Test
+	public void shouldRejectWalledOffGold () {
+		level.placeEntity(2, 2, hero);
+		level.placeEntity(6, 6, new Gold());
+		for (int y = 2; y <= 7; y++) {
+			level.placeEntity(4, y, new Wall());
+		}
+
+		var result = validator.validate(level);
+		Assertions.assertFalse(result.solvable());
+		Assertions.assertEquals("Az arany nem érhető el a hős helyéről", result.getMessage());
+	}
+
+	@Test
+	public void shouldRequireArrowsForBlockingWumpus () {
+		level.placeEntity(2, 2, hero);
+		level.placeEntity(6, 6, new Gold());
+		for (int y = 2; y <= 7; y++) {
+			level.placeEntity(4, y, new Wall());
+		}
+		level.removeStaticEntity(4, 5);
+		level.placeEntity(4, 5, new Wumpus());
+
+		hero.setAmmoAmount(1);
+		Assertions.assertTrue(validator.validate(level).solvable());
+		hero.setAmmoAmount(0);
+		Assertions.assertFalse(validator.validate(level).solvable());
+
+		// A verem elviszi az egyetlen nyilat, mielőtt a hős a Wumpushoz érne
+		hero.setAmmoAmount(1);
+		for (int x = 2; x <= 3; x++) {
+			level.placeEntity(x, 4, new Wall());
+		}
+		level.removeStaticEntity(3, 4);
+		level.placeEntity(3, 4, new Pit());
+		Assertions.assertFalse(validator.validate(level).solvable());
+	}
+
+	@Test
+	public void shouldAcceptWumpusThatCanBeAvoided () {
+		hero.setAmmoAmount(0);
+		level.placeEntity(2, 2, hero);
+		level.placeEntity(6, 6, new Gold());
+		level.placeEntity(4, 4, new Wumpus());
+
+		Assertions.assertTrue(validator.validate(level).solvable());
+	}
+
+	@Test
+	public void shouldCheckOnlyReturnPathWhenHeroHasGold () {
+		level.placeEntity(2, 2, hero);
+		level.placeEntity(6, 6, new Gold());
+		level.moveEntity(hero, 5, 5);
+		hero.addItem(Items.Gold);
+		level.removeStaticEntity(new Position(6, 6));
+
+		Assertions.assertTrue(validator.validate(level).solvable());
+	}
+
+	@Test
+	public void shouldCacheByContent () {
+		level.placeEntity(2, 2, hero);
+		level.placeEntity(6, 6, new Gold());
+		var first = validator.validate(level);
+		Assertions.assertSame(first, validator.validate(level));
+
+		// Ugyanaz a tartalom egy másik pályán
+		var copy = new Level(level.toLevelVO());
+		Assertions.assertSame(first, validator.validate(copy));
+		Assertions.assertEquals(LevelValidator.contentHash(level), LevelValidator.contentHash(copy));
+
+		level.placeEntity(3, 3, new Pit());
+		Assertions.assertNotEquals(LevelValidator.contentHash(level), LevelValidator.contentHash(copy));
+	}
+
+	/**
+	 * Egyező hash esetén is a teljes tartalom dönt
+	 */
+	@Test
+	public void shouldCompareFullContentKey () {
+		level.placeEntity(2, 2, hero);
+		level.placeEntity(6, 6, new Gold());
+		var key = LevelValidator.contentKey(level);
+		var sameHash = new LevelValidator.ContentKey(key.size(), key.start(), key.heroState(), key.hash(), new long[0]);
+
+		Assertions.assertEquals(key, LevelValidator.contentKey(new Level(level.toLevelVO())));
+		Assertions.assertEquals(key.hashCode(), sameHash.hashCode());
+		Assertions.assertNotEquals(key, sameHash);
+	}
+
+	@Test
+	public void shouldStopAtStateLimit () {
+		validator = new LevelValidator(16);
+		level.placeEntity(2, 2, hero);
+		level.placeEntity(6, 6, new Gold());
+		for (int y = 2; y <= 7; y++) {
+			level.placeEntity(4, y, new Wall());
+		}
+		level.removeStaticEntity(4, 5);
+		level.placeEntity(4, 5, new Wumpus());
+
+		// a korlát elérése nem döntő eredmény, a pálya nem számít teljesíthetőnek
+		var result = validator.validate(level);
+		Assertions.assertFalse(result.solvable());
+		Assertions.assertTrue(result.limitReached());
+		Assertions.assertFalse(result.problems().isEmpty());
+	}
+}
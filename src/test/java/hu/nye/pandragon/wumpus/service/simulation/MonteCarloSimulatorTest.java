@@ -0,0 +1,113 @@
+package hu.nye.pandragon.wumpus.service.simulation;
+
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Pit;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import hu.nye.pandragon.wumpus.service.game.Level;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+class MonteCarloSimulatorTest {
+
+	Level level;
+	Hero hero;
+
+	@BeforeEach
+	public void setup () {
+		level = new Level(8);
+		hero = new Hero();
+		level.placeEntity(3, 4, hero);
+	}
+
+	/**
+	 * Mindig ugyanazt a parancssort játssza le, a lépések száma szerint
+	 */
+	private static SimulationPolicy scripted (String... commands) {
+		return (session, random) -> commands[session.getSteps() % commands.length];
+	}
+
+	@Test
+	public void shouldWinWithScriptedPolicy () {
+		level.placeEntity(3, 3, new Gold());
+		var result = new MonteCarloSimulator().simulate(level.toLevelVO(), 100, 1, 50,
+				() -> scripted("lép", "aranyat felszed", "fordul jobbra", "fordul jobbra", "lép"));
+
+		Assertions.assertEquals(100, result.getGames());
+		Assertions.assertEquals(1.0, result.getWinRate());
+		Assertions.assertEquals(5, result.getWinStepPercentile(0.5));
+		Assertions.assertEquals(100, result.getGamesWithSteps(5));
+	}
+
+	@Test
+	public void shouldCountWumpusDeaths () {
+		level.placeEntity(3, 3, new Wumpus());
+		var result = new MonteCarloSimulator().simulate(level.toLevelVO(), 10, 1, 50, () -> scripted("lép"));
+
+		Assertions.assertEquals(10, result.getWumpusDeaths());
+		Assertions.assertEquals(0, result.getWins());
+		Assertions.assertEquals(1, result.getStepPercentile(1));
+	}
+
+	@Test
+	public void shouldCountPitArrowLossAndTimeouts () {
+		hero.setAmmoAmount(3);
+		level.placeEntity(3, 3, new Pit());
+		var result = new MonteCarloSimulator().simulate(level.toLevelVO(), 10, 1, 5, () -> scripted("lép"));
+
+		Assertions.assertEquals(10, result.getTimeouts());
+		Assertions.assertEquals(10, result.getGamesWithPitArrowLoss());
+		Assertions.assertEquals(10, result.getArrowsLostToPits());
+		Assertions.assertEquals(5, result.getStepPercentile(0.5));
+	}
+
+	/**
+	 * A vermen álló hős lövése nem a veremnek elvesztett nyíl
+	 */
+	@Test
+	public void shouldNotCountShotFromPitAsPitArrowLoss () {
+		hero.setAmmoAmount(3);
+		level.placeEntity(3, 3, new Pit());
+		var result = new MonteCarloSimulator().simulate(level.toLevelVO(), 10, 1, 4, () -> scripted("lép", "lő", "lő"));
+
+		Assertions.assertEquals(10, result.getGamesWithPitArrowLoss());
+		Assertions.assertEquals(10, result.getArrowsLostToPits());
+	}
+
+	@Test
+	public void shouldGiveSameResultOnAnyNumberOfThreads () {
+		level.placeEntity(5, 2, new Gold());
+		level.placeEntity(6, 5, new Wumpus());
+		level.placeEntity(4, 6, new Pit());
+		hero.setAmmoAmount(1);
+		var levelVO = level.toLevelVO();
+
+		var singlePool = new ForkJoinPool(1);
+		var parallelPool = new ForkJoinPool(4);
+		SimulationResult single, parallel;
+		try {
+			single = new MonteCarloSimulator(singlePool, 16).simulate(levelVO, 2000, 42, 200);
+			parallel = new MonteCarloSimulator(parallelPool, 16).simulate(levelVO, 2000, 42, 200);
+		}
+		finally {
+			singlePool.shutdown();
+			parallelPool.shutdown();
+		}
+
+		Assertions.assertEquals(single.getReport(), parallel.getReport());
+		Assertions.assertEquals(2000, single.getWins() + single.getWumpusDeaths() + single.getTimeouts());
+		Assertions.assertTrue(single.getWumpusDeaths() > 0);
+	}
+
+	@Test
+	public void shouldThrowWithoutHero () {
+		var levelVO = new Level(8).toLevelVO();
+
+		Assertions.assertThrows(RuntimeException.class, () -> new MonteCarloSimulator().simulate(levelVO, 10, 1, 10));
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> new MonteCarloSimulator().simulate(level.toLevelVO(), 10, 1, 0));
+	}
+}
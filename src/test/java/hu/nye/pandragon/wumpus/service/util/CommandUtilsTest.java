@@ -1,16 +1,15 @@
 package hu.nye.pandragon.wumpus.service.util;
 
+import hu.nye.pandragon.wumpus.model.Position;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
-import java.awt.*;
-
 class CommandUtilsTest {
 
 	@Test
 	public void shouldConvertCorrectly () {
 		var result = CommandUtils.getCoordinates("d", "3", 6);
-		var expected = new Point(4, 3);
+		var expected = new Position(4, 3);
 
 		Assertions.assertEquals(result, expected);
 	}
@@ -29,4 +28,21 @@ class CommandUtilsTest {
 	public void shouldThrowPlaceOnBorder () {
 		Assertions.assertThrows(RuntimeException.class, () -> CommandUtils.getCoordinates("d", "6", 6));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void shouldConvertMultiLetterAndNumericColumn () {
+		Assertions.assertEquals(new Position(28, 3), CommandUtils.getCoordinates("ab", "3", 100));
+		Assertions.assertEquals(new Position(28, 3), CommandUtils.getCoordinates("28", "3", 100));
+	}
+
+	@Test
+	public void shouldConvertColumnLabelBothWays () {
+		for (int x : new int[] {1, 26, 27, 52, 702, 703, 4096}) {
+			var label = CommandUtils.getColumnLabel(x);
+			Assertions.assertEquals(x, CommandUtils.parseColumn(label.toLowerCase()));
+		}
+		Assertions.assertEquals("Z", CommandUtils.getColumnLabel(26));
+		Assertions.assertEquals("AA", CommandUtils.getColumnLabel(27));
+		Assertions.assertEquals(-1, CommandUtils.parseColumn("a1"));
+	}
+}
@@ -3,8 +3,10 @@ package hu.nye.pandragon.wumpus.service.util;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ConsoleInputWrapperTest {
 
@@ -27,4 +29,15 @@ public class ConsoleInputWrapperTest {
 		String result = consoleInputWrapper.requestUserInput();
 		assertEquals(input, result);
 	}
+
+	@Test
+	public void shouldNotLoseLinesBetweenWrappers() {
+		System.setIn(new ByteArrayInputStream("egy\nkettő\nhárom\n".getBytes()));
+		var first = new ConsoleInputWrapper();
+		var second = new ConsoleInputWrapper();
+		assertEquals("egy", first.readFromConsole());
+		assertEquals("kettő", second.readFromConsole());
+		assertEquals("három", first.readFromConsole());
+		assertThrows(NoSuchElementException.class, second::readFromConsole);
+	}
 }
@@ -0,0 +1,83 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+class AnsiDiffRendererTest {
+
+	AnsiDiffRenderer renderer;
+	ByteArrayOutputStream outputStreamCaptor;
+
+	@BeforeEach
+	public void setup () {
+		outputStreamCaptor = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(outputStreamCaptor));
+		renderer = new AnsiDiffRenderer(new PrintWrapper(), 50);
+	}
+
+	@Test
+	public void shouldDrawFirstFrameFully () {
+		renderer.setHeader("Fejléc\n");
+		renderer.render("abc\ndef\n");
+
+		Assertions.assertEquals("\u001b[H\u001b[2JFejléc\nabc\ndef\n\n", outputStreamCaptor.toString());
+	}
+
+	@Test
+	public void shouldDrawOnlyChangedCells () {
+		renderer.setHeader("Fejléc");
+		renderer.render("abcdefghijkl\nmnopqrstuvwx\n");
+		outputStreamCaptor.reset();
+		renderer.render("abcdefghijkl\nmnoXqrstuvwY\n");
+
+		var expected = "\u001b[3;4HX\u001b[3;12HY\u001b[5;1H\u001b[J";
+		Assertions.assertEquals(expected, outputStreamCaptor.toString());
+	}
+
+	@Test
+	public void shouldMergeCloseChanges () {
+		renderer.render("abcdef\n");
+		outputStreamCaptor.reset();
+		renderer.render("XbcYef\n");
+
+		Assertions.assertEquals("\u001b[1;1HXbcY\u001b[3;1H\u001b[J", outputStreamCaptor.toString());
+	}
+
+	@Test
+	public void shouldRedrawFullyWhenShapeChanges () {
+		renderer.render("abc\n");
+		outputStreamCaptor.reset();
+		renderer.render("abcd\n");
+
+		Assertions.assertTrue(outputStreamCaptor.toString().startsWith("\u001b[H\u001b[2J"));
+	}
+
+	/**
+	 * Ha a terminál magassága nem ismert, akkor nem lehet tudni, hogy elgörgetett-e a képernyő,
+	 * így a kurzormozgatás rossz sorba írhatna
+	 */
+	@Test
+	public void shouldRedrawFullyWhenHeightIsUnknown () {
+		renderer = new AnsiDiffRenderer(new PrintWrapper(), 0);
+		renderer.render("abc\n");
+		outputStreamCaptor.reset();
+		renderer.render("abX\n");
+
+		Assertions.assertEquals("\u001b[H\u001b[2JabX\n\n", outputStreamCaptor.toString());
+	}
+
+	@Test
+	public void shouldRedrawFullyWhenFrameDoesNotFit () {
+		renderer = new AnsiDiffRenderer(new PrintWrapper(), 2 + AnsiDiffRenderer.FOOTER_ROWS);
+		renderer.setHeader("Fejléc");
+		renderer.render("abc\ndef\n");
+		outputStreamCaptor.reset();
+		renderer.render("abX\ndef\n");
+
+		Assertions.assertTrue(outputStreamCaptor.toString().startsWith("\u001b[H\u001b[2J"));
+	}
+}
@@ -0,0 +1,44 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+class BufferedPrintWrapperTest {
+
+	BufferedPrintWrapper printWrapper;
+	ByteArrayOutputStream outputStreamCaptor;
+
+	@BeforeEach
+	public void setup () {
+		outputStreamCaptor = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(outputStreamCaptor));
+		printWrapper = new BufferedPrintWrapper(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void shouldWriteOnlyOnFlush () {
+		printWrapper.print("Hős: ▲");
+		printWrapper.printf(" | %d nyíl", 3);
+
+		Assertions.assertEquals(0, outputStreamCaptor.size());
+		printWrapper.flush();
+		Assertions.assertEquals("Hős: ▲ | 3 nyíl", outputStreamCaptor.toString(StandardCharsets.UTF_8));
+		Assertions.assertEquals(0, printWrapper.getBufferedLength());
+	}
+
+	@Test
+	public void shouldEncodeSymbolsAsUtf8 () {
+		var text = "┏━┓•░▶$ő😀";
+		printWrapper.println(text.toCharArray());
+		printWrapper.print(text);
+		printWrapper.flush();
+
+		var expected = text + System.lineSeparator() + text;
+		Assertions.assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), outputStreamCaptor.toByteArray());
+	}
+}
@@ -0,0 +1,48 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Pit;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import hu.nye.pandragon.wumpus.service.game.Level;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CompactLevelRendererTest {
+
+	Level level;
+
+	@BeforeEach
+	public void setup () {
+		level = new Level(6);
+		level.placeEntity(2, 2, new Hero());
+		level.placeEntity(4, 3, new Gold());
+		level.placeEntity(3, 4, new Pit());
+		level.placeEntity(3, 4, new Wumpus());
+		level.placeEntity(5, 5, new Pit());
+		level.setStartpoint(2, 3);
+	}
+
+	@Test
+	public void shouldDrawOneGlyphPerCell () {
+		var expected =
+				"┏━━━━┓\n" +
+				"┃▲   ┃\n" +
+				"┃⚑ G ┃\n" +
+				"┃ U  ┃\n" +
+				"┃   ░┃\n" +
+				"┗━━━━┛\n";
+
+		Assertions.assertEquals(expected, new String(new CompactLevelRenderer(1).draw(level, false)));
+	}
+
+	@Test
+	public void shouldAggregateBlocksByPriority () {
+		var expected =
+				"▲G\n" +
+				"U░\n";
+
+		Assertions.assertEquals(expected, new String(new CompactLevelRenderer(3).draw(level, false)));
+	}
+}
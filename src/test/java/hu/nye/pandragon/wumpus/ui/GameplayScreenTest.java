@@ -1,14 +1,19 @@
 package hu.nye.pandragon.wumpus.ui;
 
+import hu.nye.pandragon.wumpus.model.Directions;
 import hu.nye.pandragon.wumpus.model.Items;
 import hu.nye.pandragon.wumpus.model.PlayernameVO;
+import hu.nye.pandragon.wumpus.model.Position;
 import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
 import hu.nye.pandragon.wumpus.service.game.Level;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 
 class GameplayScreenTest {
 
@@ -20,7 +25,7 @@ class GameplayScreenTest {
 	public void setup () {
 		level = new Level(20);
 		level.placeEntity(4, 4, new Hero());
-		gameplayScreen = new GameplayScreen(level.toLevelVO(), new PlayernameVO("San ji desu"));
+		gameplayScreen = new GameplayScreen(level.toLevelVO(), new PlayernameVO("San ji desu"), new PrintWrapper());
 	}
 
 	@Test
@@ -37,13 +42,13 @@ class GameplayScreenTest {
 	public void shouldThrowExceptionOnheroNotFound () {
 		var levelVO = new Level(20).toLevelVO();
 
-		Assertions.assertThrows(RuntimeException.class, () -> new GameplayScreen(levelVO, PLAYERNAME));
+		Assertions.assertThrows(RuntimeException.class, () -> new GameplayScreen(levelVO, PLAYERNAME, new PrintWrapper()));
 	}
 
 	@Test
 	public void shouldExitOnWhenHeroIsNotAlive () {
 		level.getHero().setAlive(false);
-		gameplayScreen = new GameplayScreen(level.toLevelVO(), PLAYERNAME);
+		gameplayScreen = new GameplayScreen(level.toLevelVO(), PLAYERNAME, new PrintWrapper());
 		System.setIn(new ByteArrayInputStream("Ashita konsaato ni ikimasu".getBytes()));
 		gameplayScreen.start();
 
@@ -54,8 +59,37 @@ class GameplayScreenTest {
 	@Test
 	public void shouldExitOnHeroWin () {
 		level.getHero().addItem(Items.Gold);
-		gameplayScreen = new GameplayScreen(level.toLevelVO(), PLAYERNAME);
+		gameplayScreen = new GameplayScreen(level.toLevelVO(), PLAYERNAME, new PrintWrapper());
 		gameplayScreen.start();
 		Assertions.assertTrue(gameplayScreen.isShouldExit());
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void shouldRunQueuedCommands () {
+		System.setIn(new ByteArrayInputStream("fordul jobbra; lép 3\nfelad\n".getBytes()));
+		gameplayScreen.start();
+
+		Assertions.assertTrue(gameplayScreen.isShouldExit());
+		var hero = gameplayScreen.getSession().getHero();
+		Assertions.assertEquals(Directions.East, hero.getDirection());
+		Assertions.assertEquals(new Position(7, 4), hero.getPosition());
+	}
+
+	@Test
+	public void shouldShowWumpusDeathCryWithCommandMessage () {
+		level.placeEntity(4, 2, new Wumpus());
+		level.getHero().setAmmoAmount(1);
+		var outputStreamCaptor = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(outputStreamCaptor));
+		gameplayScreen = new GameplayScreen(level.toLevelVO(), PLAYERNAME, new PrintWrapper());
+		System.setIn(new ByteArrayInputStream("lő\nfelad\n".getBytes()));
+		gameplayScreen.start();
+
+		var output = outputStreamCaptor.toString();
+		var cry = output.indexOf("Wumpus: Áááá!");
+		Assertions.assertTrue(cry > 0, output);
+		// a kiáltás a lövés utáni kirajzolás alatt jelenik meg, nem a lövés közben
+		var board = "\n 20  ┗";
+		Assertions.assertTrue(cry > output.indexOf(board, output.indexOf(board) + 1), output);
+	}
+}
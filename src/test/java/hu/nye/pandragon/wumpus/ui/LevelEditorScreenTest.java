@@ -46,11 +46,38 @@ class LevelEditorScreenTest {
 		var input = "20";
 		System.setIn(new ByteArrayInputStream(input.getBytes()));
 		levelEditorScreen.init();
-		input = "kész";
+		input = "legyen hős b 2; legyen arany e 5\nkész";
 		System.setIn(new ByteArrayInputStream(input.getBytes()));
 		levelEditorScreen.start();
 
 		var result = levelEditorScreen.isShouldExit();
 		Assertions.assertTrue(result);
+		Assertions.assertNotNull(levelEditorScreen.getLevelVO());
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Nem teljesíthető pályánál az első kilépés hibát ad, a második kilép, de a pálya nem mentődik el
+	 */
+	@Test
+	public void shouldRejectUnsolvableLevelOnExit () {
+		var input = "8";
+		System.setIn(new ByteArrayInputStream(input.getBytes()));
+		levelEditorScreen.init();
+		input = "legyen hős b 2\nkész\nkész";
+		System.setIn(new ByteArrayInputStream(input.getBytes()));
+		levelEditorScreen.start();
+
+		Assertions.assertTrue(levelEditorScreen.isShouldExit());
+		Assertions.assertNull(levelEditorScreen.getLevelVO());
+	}
+
+	@Test
+	public void shouldAcceptLargeSizeInLargeMapMode () {
+		var input = "4096";
+		System.setIn(new ByteArrayInputStream(input.getBytes()));
+		levelEditorScreen.setLargeMapMode(true);
+		levelEditorScreen.init();
+
+		Assertions.assertEquals(4096, levelEditorScreen.getLevelVO().getSize());
+	}
+}
@@ -0,0 +1,64 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import hu.nye.pandragon.wumpus.service.game.Level;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+class LevelFrameTest {
+
+	Level level;
+	LevelFrame levelFrame;
+	Hero hero;
+
+	@BeforeEach
+	public void setup () {
+		level = new Level(8);
+		hero = new Hero();
+		level.placeEntity(3, 3, hero);
+		level.placeEntity(5, 5, new Wumpus());
+		levelFrame = new LevelFrame(level, false);
+	}
+
+	@Test
+	public void shouldReuseTheSameArray () {
+		var first = levelFrame.draw();
+		level.removeLivingEntity(3, 3);
+		level.placeEntity(4, 3, hero);
+
+		Assertions.assertSame(first, levelFrame.draw());
+	}
+
+	@Test
+	public void shouldRestoreCellsLeftByLivingEntities () {
+		var fresh = new LevelFrame(level, false);
+		levelFrame.draw();
+		level.removeLivingEntity(5, 5);
+		level.placeEntity(6, 5, new Wumpus());
+
+		Assertions.assertArrayEquals(fresh.draw(), levelFrame.draw());
+	}
+
+	@Test
+	public void shouldNotAllocateInSteadyState () {
+		var bean = ManagementFactory.getThreadMXBean();
+		Assumptions.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+		var threadBean = (com.sun.management.ThreadMXBean) bean;
+		for (int i = 0; i < 10_000; i++) {
+			levelFrame.draw();
+		}
+		var threadId = Thread.currentThread().getId();
+		var before = threadBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < 1_000; i++) {
+			levelFrame.draw();
+		}
+		var allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+		Assertions.assertTrue(allocated < 1_000, "Lefoglalt bájtok: " + allocated);
+	}
+}
@@ -0,0 +1,53 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Pit;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import hu.nye.pandragon.wumpus.service.game.Level;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LevelViewportTest {
+
+	@Test
+	public void shouldMatchFullRenderWhenWindowIsLarger () {
+		var level = new Level(8);
+		level.placeEntity(3, 3, new Hero());
+		level.placeEntity(4, 3, new Gold());
+		level.placeEntity(5, 5, new Pit());
+		level.placeEntity(5, 5, new Wumpus());
+		level.placeEntity(4, 3, new Wumpus());
+		level.setStartpoint(2, 2);
+		var full = new LevelFrame(level, false).draw();
+
+		Assertions.assertArrayEquals(full, new LevelViewport(20, 20).draw(level, false));
+	}
+
+	@Test
+	public void shouldDrawWindowAroundHero () {
+		var expected =
+				"     AA AB AC\n" +
+				" 14         \n" +
+				" 15    >▲<  \n" +
+				" 16         \n";
+		var level = new Level(40);
+		level.placeEntity(28, 15, new Hero());
+		var viewport = new LevelViewport(3, 3);
+
+		Assertions.assertEquals(expected, new String(viewport.draw(level, false)));
+		Assertions.assertEquals(27, viewport.getLeft());
+		Assertions.assertEquals(14, viewport.getTop());
+	}
+
+	@Test
+	public void shouldKeepWindowInsideLevel () {
+		var level = new Level(40);
+		level.placeEntity(2, 39, new Hero());
+		var viewport = new LevelViewport(10, 6);
+		viewport.draw(level, false);
+
+		Assertions.assertEquals(1, viewport.getLeft());
+		Assertions.assertEquals(35, viewport.getTop());
+	}
+}
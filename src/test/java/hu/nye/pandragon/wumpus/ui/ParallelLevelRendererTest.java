@@ -0,0 +1,43 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.model.entities.Gold;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Pit;
+import hu.nye.pandragon.wumpus.model.entities.Wall;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import hu.nye.pandragon.wumpus.service.game.Level;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+class ParallelLevelRendererTest {
+
+	@Test
+	public void shouldRenderSameAsSequentialRenderer () {
+		var level = new Level(150);
+		var random = new Random(42);
+		for (int i = 0; i < 3000; i++) {
+			var x = 2 + random.nextInt(148);
+			var y = 2 + random.nextInt(148);
+			switch (random.nextInt(4)) {
+				case 0 -> level.placeEntity(x, y, new Wall());
+				case 1 -> level.placeEntity(x, y, new Pit());
+				case 2 -> level.placeEntity(x, y, new Gold());
+				default -> level.placeEntity(x, y, new Wumpus());
+			}
+		}
+		level.placeEntity(75, 75, new Hero());
+		var pool = new ForkJoinPool(4);
+		try {
+			var renderer = new ParallelLevelRenderer(pool, 7);
+
+			Assertions.assertArrayEquals(new LevelFrame(level, false).draw(), renderer.render(level, false));
+			Assertions.assertArrayEquals(new LevelFrame(level, true).draw(), renderer.render(level, true));
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+}
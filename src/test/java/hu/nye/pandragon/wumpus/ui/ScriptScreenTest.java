@@ -0,0 +1,99 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.model.GameState;
+import hu.nye.pandragon.wumpus.model.Position;
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Wumpus;
+import hu.nye.pandragon.wumpus.service.game.Level;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+class ScriptScreenTest {
+
+	@Test
+	public void shouldWinFromEditorScript () {
+		var screen = new ScriptScreen(8, List.of(
+				"# pálya",
+				"legyen hős c 4",
+				"legyen arany c 3",
+				"teszt",
+				"",
+				"lép",
+				"aranyat felszed",
+				"fordul jobbra",
+				"fordul jobbra",
+				"lép",
+				"lép"
+		));
+		screen.start();
+		var result = screen.getResult();
+
+		Assertions.assertEquals(GameState.Won, result.state());
+		Assertions.assertEquals(5, result.steps());
+		Assertions.assertEquals(8, result.executedCommands());
+		Assertions.assertEquals(new Position(3, 4), result.heroPosition());
+		Assertions.assertTrue(result.hasGold());
+		Assertions.assertTrue(result.errors().isEmpty());
+	}
+
+	@Test
+	public void shouldReportDeath () {
+		var level = new Level(8);
+		level.placeEntity(3, 4, new Hero());
+		level.placeEntity(3, 3, new Wumpus());
+		var screen = new ScriptScreen(level.toLevelVO(), List.of("lép", "lép"));
+		screen.start();
+
+		Assertions.assertEquals(GameState.Died, screen.getResult().state());
+		Assertions.assertEquals(1, screen.getResult().steps());
+	}
+
+	@Test
+	public void shouldCollectErrorsWithoutOutput () {
+		var outputStreamCaptor = new ByteArrayOutputStream();
+		System.setOut(new PrintStream(outputStreamCaptor));
+		var level = new Level(8);
+		level.placeEntity(3, 2, new Hero());
+		var screen = new ScriptScreen(level.toLevelVO(), List.of("ugrás", "fordul fel", "lép", "felad", "lép"));
+		screen.start();
+		var result = screen.getResult();
+
+		Assertions.assertEquals(GameState.GaveUp, result.state());
+		Assertions.assertEquals(4, result.steps());
+		Assertions.assertEquals(List.of(
+				"1. sor: Ismeretlen parancs: ugrás",
+				"2. sor: A parancs használata: fordul jobbra|balra",
+				"3. sor: Nem lehet lépni ebben az irányban"
+		), result.errors());
+		Assertions.assertEquals("", outputStreamCaptor.toString());
+	}
+
+	@Test
+	public void shouldRunRepeatedCommands () {
+		var screen = new ScriptScreen(8, List.of(
+				"legyen hős c 6; legyen arany c 3; teszt",
+				"lép 3; aranyat felszed; fordul jobbra 2; lép 3"
+		));
+		screen.start();
+		var result = screen.getResult();
+
+		Assertions.assertEquals(GameState.Won, result.state());
+		Assertions.assertEquals(9, result.steps());
+		Assertions.assertTrue(result.errors().isEmpty());
+	}
+
+	@Test
+	public void shouldStayInEditorWithoutHero () {
+		var screen = new ScriptScreen(8, List.of("teszt", "lép"));
+		screen.start();
+		var result = screen.getResult();
+
+		Assertions.assertEquals(GameState.Editing, result.state());
+		Assertions.assertEquals(2, result.errors().size());
+		Assertions.assertNull(result.heroPosition());
+	}
+}
@@ -0,0 +1,69 @@
+package hu.nye.pandragon.wumpus.ui;
+
+import hu.nye.pandragon.wumpus.model.entities.Hero;
+import hu.nye.pandragon.wumpus.model.entities.Pit;
+import hu.nye.pandragon.wumpus.service.game.Level;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TerrainLayerTest {
+
+	Level level;
+	TerrainLayer terrainLayer;
+
+	@BeforeEach
+	public void setup () {
+		level = new Level(6);
+		terrainLayer = new TerrainLayer(level, false);
+	}
+
+	@Test
+	public void shouldKeepTerrainWhenOnlyLivingEntitiesChange () {
+		var terrain = terrainLayer.getChars();
+		level.placeEntity(3, 3, new Hero());
+		level.removeLivingEntity(3, 3);
+
+		Assertions.assertSame(terrain, terrainLayer.getChars());
+	}
+
+	@Test
+	public void shouldRedrawTerrainWhenStaticEntitiesChange () {
+		terrainLayer.getChars();
+		level.placeEntity(3, 3, new Pit());
+		var result = terrainLayer.getChars();
+
+		Assertions.assertEquals('░', result[terrainLayer.cellOffset(3, 3) + 1]);
+	}
+
+	@Test
+	public void shouldDrawLivingEntityOnCopy () {
+		var hero = new Hero();
+		level.placeEntity(3, 3, hero);
+		var frame = terrainLayer.getChars().clone();
+		terrainLayer.drawLiving(frame, hero);
+
+		Assertions.assertEquals(hero.getDisplaySymbol(), frame[terrainLayer.cellOffset(3, 3) + 1]);
+		Assertions.assertEquals(' ', terrainLayer.getChars()[terrainLayer.cellOffset(3, 3) + 1]);
+	}
+
+	@Test
+	public void shouldDrawOneLineHeaderForShortLabels () {
+		Assertions.assertEquals("     A  B  C", TerrainLayer.drawHeader(4, 1, 3));
+		Assertions.assertEquals("     ZY ZZ", TerrainLayer.drawHeader(4, 701, 2));
+	}
+
+	/**
+	 * A háromjegyű azonosítók két sorba kerülnek, hogy ne folyjanak össze,
+	 * de mindegyik a saját oszlopa fölött marad
+	 */
+	@Test
+	public void shouldSeparateThreeLetterLabels () {
+		var header = TerrainLayer.drawHeader(4, 701, 4);
+
+		Assertions.assertEquals("     ZY   AAA\n        ZZ   AAB", header);
+		var lines = header.split("\n");
+		Assertions.assertEquals(4 + 2 * 3, lines[0].indexOf("AAA"));
+		Assertions.assertEquals(4 + 3 * 3, lines[1].indexOf("AAB"));
+	}
+}
@@ -20,24 +20,24 @@ class XmlLevelConverterTest {
 			    <Hero arrows="2" direction="W" hasGold="true"/>
 			    <Entities>
 			        <Entity posX="1" posY="1">W</Entity>
+			        <Entity posX="2" posY="1">W</Entity>
+			        <Entity posX="3" posY="1">W</Entity>
 			        <Entity posX="4" posY="1">W</Entity>
-			        <Entity posX="1" posY="4">W</Entity>
 			        <Entity posX="1" posY="2">W</Entity>
 			        <Entity posX="4" posY="2">W</Entity>
-			        <Entity posX="2" posY="1">W</Entity>
-			        <Entity posX="2" posY="4">W</Entity>
-			        <Entity posX="4" posY="4">W</Entity>
 			        <Entity posX="1" posY="3">W</Entity>
 			        <Entity posX="4" posY="3">W</Entity>
-			        <Entity posX="3" posY="1">W</Entity>
+			        <Entity posX="1" posY="4">W</Entity>
+			        <Entity posX="2" posY="4">W</Entity>
 			        <Entity posX="3" posY="4">W</Entity>
+			        <Entity posX="4" posY="4">W</Entity>
 			        <Entity posX="3" posY="3">H</Entity>
 			    </Entities>
 			</Level>
 			""";
 
 	static String XML_CODE = """
-<?xml version="1.0" encoding="UTF-8" standalone="yes"?><Level size="4" startX="3" startY="3" steps="3"><Hero arrows="2" direction="W" hasGold="true"/><Entities><Entity posX="1" posY="1">W</Entity><Entity posX="4" posY="1">W</Entity><Entity posX="1" posY="4">W</Entity><Entity posX="1" posY="2">W</Entity><Entity posX="4" posY="2">W</Entity><Entity posX="2" posY="1">W</Entity><Entity posX="2" posY="4">W</Entity><Entity posX="4" posY="4">W</Entity><Entity posX="1" posY="3">W</Entity><Entity posX="4" posY="3">W</Entity><Entity posX="3" posY="1">W</Entity><Entity posX="3" posY="4">W</Entity><Entity posX="3" posY="3">H</Entity></Entities></Level>""";
+<?xml version="1.0" encoding="UTF-8" standalone="yes"?><Level size="4" startX="3" startY="3" steps="3"><Hero arrows="2" direction="W" hasGold="true"/><Entities><Entity posX="1" posY="1">W</Entity><Entity posX="2" posY="1">W</Entity><Entity posX="3" posY="1">W</Entity><Entity posX="4" posY="1">W</Entity><Entity posX="1" posY="2">W</Entity><Entity posX="4" posY="2">W</Entity><Entity posX="1" posY="3">W</Entity><Entity posX="4" posY="3">W</Entity><Entity posX="1" posY="4">W</Entity><Entity posX="2" posY="4">W</Entity><Entity posX="3" posY="4">W</Entity><Entity posX="4" posY="4">W</Entity><Entity posX="3" posY="3">H</Entity></Entities></Level>""";
 
 	LevelVO levelVO;
 